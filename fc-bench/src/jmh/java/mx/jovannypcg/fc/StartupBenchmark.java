@@ -0,0 +1,94 @@
+package mx.jovannypcg.fc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to first result of a single-shot invocation, spawning a new JVM every time:
+ * {@code spring} runs the Spring Boot jar, {@code lean} runs {@link FcLauncher} from the lean jar and
+ * {@code lean-cds} does the same with the AppCDS archive created by the build.
+ *
+ * The jars and the archive are passed by the build as the {@code fc.bootJar}, {@code fc.leanJar} and
+ * {@code fc.cdsArchive} system properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+public class StartupBenchmark {
+    private static final String EXPRESSION = "1/2 + 3_3/4 * (2 - 1/3)";
+    private static final String EXPECTED_OUTPUT = EXPRESSION + " = 6_3/4";
+
+    @Param({ "spring", "lean", "lean-cds" })
+    public String launcher;
+
+    private List<String> command;
+
+    @Setup
+    public void setUp() {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        command = new ArrayList<>(Arrays.asList(java, "-XX:TieredStopAtLevel=1", "-XX:+UseSerialGC"));
+
+        switch (launcher) {
+            case "spring":
+                command.addAll(Arrays.asList("-jar", requiredFile("fc.bootJar")));
+                break;
+            case "lean":
+                command.addAll(Arrays.asList("-Xshare:auto", "-jar", requiredFile("fc.leanJar")));
+                break;
+            case "lean-cds":
+                command.addAll(Arrays.asList("-XX:SharedArchiveFile=" + requiredFile("fc.cdsArchive"), "-Xshare:on",
+                        "-jar", requiredFile("fc.leanJar")));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown launcher " + launcher);
+        }
+
+        command.add(EXPRESSION);
+    }
+
+    @Benchmark
+    public String firstResult() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output;
+
+        try (InputStream input = process.getInputStream()) {
+            output = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        if (process.waitFor() != 0 || !output.contains(EXPECTED_OUTPUT)) {
+            throw new IllegalStateException("Unexpected output from " + launcher + ": " + output);
+        }
+
+        return output;
+    }
+
+    private static String requiredFile(String property) {
+        String file = System.getProperty(property);
+
+        if (file == null || !Files.isRegularFile(Paths.get(file))) {
+            throw new IllegalStateException("Missing " + property + ", run the benchmarks with ./gradlew jmh");
+        }
+
+        return file;
+    }
+}
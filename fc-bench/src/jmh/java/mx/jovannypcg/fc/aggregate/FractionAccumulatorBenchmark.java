@@ -0,0 +1,74 @@
+package mx.jovannypcg.fc.aggregate;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures running sums computed by {@link FractionAccumulator} against adding every fraction with
+ * {@link FractionCalculator#add}. {@code denominators} is the number of distinct denominators in the stream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FractionAccumulatorBenchmark {
+    private static final int SIZE = 100_000;
+    private static final int[] LEDGER_DENOMINATORS = { 2, 4, 8, 100 };
+
+    @Param({ "4", "64" })
+    public int denominators;
+
+    private FractionCalculator fractionCalculator;
+    private FractionAccumulator fractionAccumulator;
+    private Fraction[] fractions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        fractionCalculator = new FractionCalculator(new ArgumentValidator());
+        fractionAccumulator = new FractionAccumulator(fractionCalculator);
+        fractions = new Fraction[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            int denominator = denominators == LEDGER_DENOMINATORS.length
+                    ? LEDGER_DENOMINATORS[random.nextInt(denominators)]
+                    : random.nextInt(denominators) + 1;
+
+            fractions[i] = Fraction.with(random.nextInt(20_001) - 10_000, denominator);
+        }
+    }
+
+    @Benchmark
+    public Fraction calculatorAdd() {
+        Fraction sum = Fraction.with(0, 1);
+
+        for (Fraction fraction : fractions) {
+            sum = fractionCalculator.add(sum, fraction);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public Fraction accumulatorAdd() {
+        fractionAccumulator.reset();
+
+        for (Fraction fraction : fractions) {
+            fractionAccumulator.add(fraction);
+        }
+
+        return fractionAccumulator.total();
+    }
+}
@@ -0,0 +1,70 @@
+package mx.jovannypcg.fc.aggregate;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures exact sums computed by {@link FractionAggregator} against folding {@link FractionCalculator#add}
+ * from left to right. Denominators are powers of 2 and 10, like the amounts of a ledger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FractionAggregatorBenchmark {
+    private static final int[] DENOMINATORS = { 1, 2, 4, 8, 10, 100 };
+
+    @Param({ "100000", "10000000" })
+    public int size;
+
+    private FractionCalculator fractionCalculator;
+    private FractionAggregator fractionAggregator;
+    private Fraction[] fractions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        fractionCalculator = new FractionCalculator(new ArgumentValidator());
+        fractionAggregator = new FractionAggregator(fractionCalculator);
+        fractions = new Fraction[size];
+
+        for (int i = 0; i < size; i++) {
+            fractions[i] = Fraction.with(random.nextInt(20_001) - 10_000,
+                    DENOMINATORS[random.nextInt(DENOMINATORS.length)]);
+        }
+    }
+
+    @Benchmark
+    public Fraction sequentialFold() {
+        Fraction sum = Fraction.with(0, 1);
+
+        for (Fraction fraction : fractions) {
+            sum = fractionCalculator.add(sum, fraction);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public Fraction parallelSum() {
+        return fractionAggregator.sum(fractions);
+    }
+
+    @Benchmark
+    public Fraction parallelStream() {
+        return Arrays.stream(fractions).parallel().collect(fractionAggregator.summing());
+    }
+}
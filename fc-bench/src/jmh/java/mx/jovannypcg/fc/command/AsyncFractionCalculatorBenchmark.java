@@ -0,0 +1,78 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the throughput of {@link AsyncFractionCalculator} scales with the number of threads of its
+ * executor, all of them sharing a single {@link FractionCalculator}. Throughput is given in operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AsyncFractionCalculatorBenchmark {
+    private static final int OPERATIONS = 10_000;
+    private static final String[] OPERATORS = { "+", "-", "*", "/" };
+
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    private ExecutorService executor;
+    private AsyncFractionCalculator asyncFractionCalculator;
+    private List<String[]> operations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+
+        executor = Executors.newFixedThreadPool(threads);
+        asyncFractionCalculator = new AsyncFractionCalculator(
+                new FractionCalculator(new ArgumentValidator()), executor);
+        operations = new ArrayList<>(OPERATIONS);
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            operations.add(new String[] {
+                    random.nextInt(9_999) + "/" + (random.nextInt(9_999) + 1),
+                    OPERATORS[random.nextInt(OPERATORS.length)],
+                    random.nextInt(99) + "_" + (random.nextInt(999) + 1) + "/" + (random.nextInt(999) + 1)
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public List<FractionResult> performAll() {
+        return asyncFractionCalculator.performAll(operations).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int performAllOrdered() {
+        int[] collected = new int[1];
+        asyncFractionCalculator.performAll(operations.iterator(), 256, result -> collected[0]++);
+        return collected[0];
+    }
+}
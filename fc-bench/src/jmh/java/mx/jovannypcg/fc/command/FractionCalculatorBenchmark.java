@@ -0,0 +1,116 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.Operands;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.metrics.CalculatorMetrics;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every operation of {@link FractionCalculator}, from the whole {@code perform} down to
+ * the simplification of the results, {@code perform} answered by {@link CachingFractionCalculator}, and
+ * {@code perform} recording its {@link CalculatorMetrics}, with the default sampling and timing every call.
+ * {@code digits} is the number of digits of numerators and denominators, simplification starts from
+ * {@code 12n/8n} which is not reduced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FractionCalculatorBenchmark {
+    @Param({ "1", "3", "4" })
+    public int digits;
+
+    private FractionCalculator fractionCalculator;
+    private FractionCalculator cachingFractionCalculator;
+    private FractionCalculator meteredFractionCalculator;
+    private FractionCalculator fullyMeteredFractionCalculator;
+    private String[] args;
+    private Fraction x;
+    private Fraction y;
+    private Fraction unsimplified;
+
+    @Setup
+    public void setUp() {
+        String number = Operands.number(digits);
+        int value = Integer.parseInt(number);
+
+        fractionCalculator = new FractionCalculator(new ArgumentValidator());
+        cachingFractionCalculator = new CachingFractionCalculator(new ArgumentValidator(), 1024);
+        meteredFractionCalculator = new FractionCalculator(new ArgumentValidator(), new CalculatorMetrics());
+        fullyMeteredFractionCalculator = new FractionCalculator(new ArgumentValidator(), new CalculatorMetrics(1));
+        args = new String[] { number + "/" + (value + 1), "+", "-1_" + number + "/" + (value + 2) };
+        x = Fraction.with(value, value + 1);
+        y = Fraction.with(-value, value + 2);
+        unsimplified = new Unreduced(value * 12, value * 8);
+    }
+
+    @Benchmark
+    public Fraction perform() throws CalculatorException {
+        return fractionCalculator.perform(args);
+    }
+
+    @Benchmark
+    public Fraction performCached() throws CalculatorException {
+        return cachingFractionCalculator.perform(args);
+    }
+
+    @Benchmark
+    public Fraction performMetered() throws CalculatorException {
+        return meteredFractionCalculator.perform(args);
+    }
+
+    @Benchmark
+    public Fraction performFullyMetered() throws CalculatorException {
+        return fullyMeteredFractionCalculator.perform(args);
+    }
+
+    @Benchmark
+    public Fraction add() {
+        return fractionCalculator.add(x, y);
+    }
+
+    @Benchmark
+    public Fraction subtract() {
+        return fractionCalculator.subtract(x, y);
+    }
+
+    @Benchmark
+    public Fraction multiply() {
+        return fractionCalculator.multiply(x, y);
+    }
+
+    @Benchmark
+    public Fraction divide() {
+        return fractionCalculator.divide(x, y);
+    }
+
+    @Benchmark
+    public Fraction simplify() {
+        return fractionCalculator.simplify(unsimplified);
+    }
+
+    @Benchmark
+    public int greatestCommonFactor() {
+        return fractionCalculator.greatestCommonFactor(unsimplified.getNumerator(), unsimplified.getDenominator());
+    }
+
+    /**
+     * Fraction which is not reduced on construction, unlike the ones created by {@link Fraction#with(int, int)},
+     * so there is still something to simplify.
+     */
+    private static class Unreduced extends Fraction {
+        Unreduced(int numerator, int denominator) {
+            super(numerator, denominator);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of rejecting invalid input through exceptions against the exception-free API.
+ * {@code input} is either a malformed operation or a malformed expression.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InvalidInputBenchmark {
+    @Param({ "operation", "expression" })
+    public String input;
+
+    private FractionCalculator fractionCalculator;
+    private String[] args;
+
+    @Setup
+    public void setUp() {
+        fractionCalculator = new FractionCalculator(new ArgumentValidator());
+        args = "operation".equals(input)
+                ? new String[] { "1/2", "+", "3_/4" }
+                : new String[] { "1/2", "+", "(", "3_3/4", "*", "2" };
+    }
+
+    @Benchmark
+    public Object perform() {
+        try {
+            return fractionCalculator.perform(args);
+        } catch (CalculatorException ce) {
+            return ce;
+        }
+    }
+
+    @Benchmark
+    public FractionResult tryPerform() {
+        return fractionCalculator.tryPerform(args);
+    }
+}
@@ -0,0 +1,105 @@
+package mx.jovannypcg.fc.domain;
+
+import mx.jovannypcg.fc.exception.CalculatorException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing, formatting, hashing and comparison of {@link Fraction} and {@link MixedFraction}.
+ * {@code digits} is the number of digits of every number within the operands, one digit operands are
+ * shared from the cache of small fractions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FractionBenchmark {
+    @Param({ "1", "4", "9" })
+    public int digits;
+
+    private String integerOperand;
+    private String simpleFractionOperand;
+    private String mixedFractionOperand;
+    private Fraction improperFraction;
+    private Fraction simpleFraction;
+    private MixedFraction mixedFraction;
+    private Fraction equivalentFraction;
+    private int value;
+
+    @Setup
+    public void setUp() {
+        String number = Operands.number(digits);
+
+        integerOperand = "-" + number;
+        simpleFractionOperand = number + "/" + number;
+        mixedFractionOperand = "-1_" + number + "/" + number;
+
+        value = Integer.parseInt(number);
+        improperFraction = Fraction.with(value + 1, value);
+        simpleFraction = Fraction.with(value, value + 1);
+        mixedFraction = MixedFraction.with(-value, value, value + 1);
+        equivalentFraction = Fraction.with(2L * value, 2L * (value + 1));
+    }
+
+    @Benchmark
+    public Fraction parseInteger() throws CalculatorException {
+        return Fraction.parse(integerOperand);
+    }
+
+    @Benchmark
+    public Fraction parseSimpleFraction() throws CalculatorException {
+        return Fraction.parse(simpleFractionOperand);
+    }
+
+    @Benchmark
+    public Fraction parseMixedFraction() throws CalculatorException {
+        return Fraction.parse(mixedFractionOperand);
+    }
+
+    @Benchmark
+    public MixedFraction mixedFractionParse() {
+        return MixedFraction.parse(improperFraction);
+    }
+
+    @Benchmark
+    public String fractionToString() {
+        return simpleFraction.toString();
+    }
+
+    @Benchmark
+    public String mixedFractionToString() {
+        return mixedFraction.toString();
+    }
+
+    @Benchmark
+    public Fraction fractionWith() {
+        return Fraction.with(value, value + 1);
+    }
+
+    @Benchmark
+    public MixedFraction mixedFractionWith() {
+        return MixedFraction.with(value, 1, 2);
+    }
+
+    @Benchmark
+    public int fractionHashCode() {
+        return simpleFraction.hashCode();
+    }
+
+    @Benchmark
+    public boolean fractionEquals() {
+        return simpleFraction.equals(equivalentFraction);
+    }
+
+    @Benchmark
+    public int fractionCompareTo() {
+        return simpleFraction.compareTo(improperFraction);
+    }
+}
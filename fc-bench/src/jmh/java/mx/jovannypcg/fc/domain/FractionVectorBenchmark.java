@@ -0,0 +1,92 @@
+package mx.jovannypcg.fc.domain;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures element-wise arithmetic of {@link FractionVector} against the same operations computed one
+ * {@link Fraction} at a time by {@link FractionCalculator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FractionVectorBenchmark {
+    @Param({ "1000", "1000000" })
+    public int size;
+
+    private FractionCalculator fractionCalculator;
+    private FractionVector x;
+    private FractionVector y;
+    private Fraction[] xFractions;
+    private Fraction[] yFractions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int[] numerators = new int[size];
+        int[] denominators = new int[size];
+        int[] thatNumerators = new int[size];
+        int[] thatDenominators = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            numerators[i] = random.nextInt(2_001) - 1_000;
+            denominators[i] = 1 << random.nextInt(5);
+            thatNumerators[i] = random.nextInt(1_000) + 1;
+            thatDenominators[i] = 100;
+        }
+
+        fractionCalculator = new FractionCalculator(new ArgumentValidator());
+        x = FractionVector.of(numerators, denominators);
+        y = FractionVector.of(thatNumerators, thatDenominators);
+        xFractions = x.toArray();
+        yFractions = y.toArray();
+    }
+
+    @Benchmark
+    public FractionVector vectorAdd() {
+        return x.add(y);
+    }
+
+    @Benchmark
+    public FractionVector vectorMultiply() {
+        return x.multiply(y);
+    }
+
+    @Benchmark
+    public FractionVector vectorMultiplyScalar() {
+        return x.multiply(Fraction.with(3, 4));
+    }
+
+    @Benchmark
+    public Fraction[] scalarAdd() {
+        Fraction[] results = new Fraction[size];
+
+        for (int i = 0; i < size; i++) {
+            results[i] = fractionCalculator.add(xFractions[i], yFractions[i]);
+        }
+
+        return results;
+    }
+
+    @Benchmark
+    public Fraction[] scalarMultiply() {
+        Fraction[] results = new Fraction[size];
+
+        for (int i = 0; i < size; i++) {
+            results[i] = fractionCalculator.multiply(xFractions[i], yFractions[i]);
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,18 @@
+package mx.jovannypcg.fc.domain;
+
+/**
+ * Builds operands of a given size for the benchmarks.
+ */
+public class Operands {
+    private static final String DIGITS = "987654321";
+
+    /**
+     * Gets a positive number without zeros, so it can be used as denominator as well.
+     *
+     * @param digits Number of digits of the number, from 1 to 9.
+     * @return String representation of the number.
+     */
+    public static String number(int digits) {
+        return DIGITS.substring(DIGITS.length() - digits);
+    }
+}
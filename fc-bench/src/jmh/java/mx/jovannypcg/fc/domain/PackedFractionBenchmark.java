@@ -0,0 +1,67 @@
+package mx.jovannypcg.fc.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the allocation-free arithmetic of {@link PackedFraction}, to be compared with
+ * {@code FractionCalculatorBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PackedFractionBenchmark {
+    @Param({ "1", "3", "4" })
+    public int digits;
+
+    private long x;
+    private long y;
+    private long unreduced;
+
+    @Setup
+    public void setUp() {
+        int value = Integer.parseInt(Operands.number(digits));
+
+        x = PackedFraction.of(value, value + 1);
+        y = PackedFraction.of(-value, value + 2);
+        unreduced = PackedFraction.pack(value * 12, value * 8);
+    }
+
+    @Benchmark
+    public long add() {
+        return PackedFraction.add(x, y);
+    }
+
+    @Benchmark
+    public long subtract() {
+        return PackedFraction.subtract(x, y);
+    }
+
+    @Benchmark
+    public long multiply() {
+        return PackedFraction.multiply(x, y);
+    }
+
+    @Benchmark
+    public long divide() {
+        return PackedFraction.divide(x, y);
+    }
+
+    @Benchmark
+    public int compare() {
+        return PackedFraction.compare(x, y);
+    }
+
+    @Benchmark
+    public long reduce() {
+        return PackedFraction.reduce(unreduced);
+    }
+}
@@ -0,0 +1,69 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures compiling an expression against evaluating an already compiled one, and evaluating a prepared template
+ * against formatting and evaluating the same row as a new expression.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpressionBenchmark {
+    private static final String EXPRESSION = "1/2 + 3_3/4 * (2 - 1/3) - 7/8 / (5_1/16 + 1)";
+    private static final String TEMPLATE = "price * 3_1/4 - discount";
+
+    private FractionCalculator fractionCalculator;
+    private Expression expression;
+    private Expression template;
+    private Bindings bindings;
+    private Fraction price;
+    private Fraction discount;
+
+    @Setup
+    public void setUp() throws CalculatorException {
+        fractionCalculator = new FractionCalculator(new ArgumentValidator());
+        expression = fractionCalculator.compile(EXPRESSION);
+        template = fractionCalculator.compile(TEMPLATE);
+        bindings = template.bind();
+        price = Fraction.with(17, 4);
+        discount = Fraction.with(3, 8);
+    }
+
+    @Benchmark
+    public Expression compile() throws CalculatorException {
+        return fractionCalculator.compile(EXPRESSION);
+    }
+
+    @Benchmark
+    public Fraction evaluateCompiled() throws CalculatorException {
+        return expression.evaluate();
+    }
+
+    @Benchmark
+    public Fraction evaluateTemplateByPosition() throws CalculatorException {
+        return template.evaluate(price, discount);
+    }
+
+    @Benchmark
+    public Fraction evaluateTemplateWithBindings() throws CalculatorException {
+        return bindings.set(0, price).set(1, discount).evaluate();
+    }
+
+    @Benchmark
+    public Fraction evaluateRowAsExpression() throws CalculatorException {
+        return fractionCalculator.evaluate(price + " * 3_1/4 - " + discount);
+    }
+}
@@ -0,0 +1,88 @@
+package mx.jovannypcg.fc.io;
+
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding operations written by {@link BinaryFractionWriter} against reading and parsing the same
+ * operations as text lines, such as {@code -5/7 + 3_1/4}. Both read from an in-memory stream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BinaryFractionReaderBenchmark {
+    private static final int OPERATIONS = 1_024;
+    private static final String OPERATORS = "+-*/";
+
+    private byte[] binary;
+    private byte[] text;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        ByteArrayOutputStream binaryOutput = new ByteArrayOutputStream();
+        BinaryFractionWriter writer = new BinaryFractionWriter(Channels.newChannel(binaryOutput));
+        StringBuilder textOutput = new StringBuilder();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            char operator = OPERATORS.charAt(random.nextInt(OPERATORS.length()));
+            Fraction x = Fraction.with(random.nextInt(99_999) - 49_999, random.nextInt(999) + 1);
+            Fraction y = MixedFraction.with(random.nextInt(99) + 1, random.nextInt(99) + 1, random.nextInt(99) + 101);
+
+            writer.writeOperation(operator, x, y);
+            textOutput.append(x).append(' ').append(operator).append(' ').append(y).append('\n');
+        }
+
+        writer.flush();
+        binary = binaryOutput.toByteArray();
+        text = textOutput.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void readBinary(Blackhole blackhole) throws IOException {
+        BinaryFractionReader reader = new BinaryFractionReader(Channels.newChannel(new ByteArrayInputStream(binary)));
+
+        while (reader.readOperator() != BinaryFractionReader.END_OF_STREAM) {
+            blackhole.consume(reader.readFraction());
+            blackhole.consume(reader.readFraction());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void readText(Blackhole blackhole) throws IOException, CalculatorException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(text),
+                StandardCharsets.US_ASCII));
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            int firstSpace = line.indexOf(' ');
+            int lastSpace = line.lastIndexOf(' ');
+
+            blackhole.consume(line.charAt(firstSpace + 1));
+            blackhole.consume(Fraction.parse(line.substring(0, firstSpace)));
+            blackhole.consume(Fraction.parse(line.substring(lastSpace + 1)));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package mx.jovannypcg.fc.io;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing batch output lines through {@link FractionWriter} against building them with
+ * {@link Message#resultOutput(String[], String)} and {@link Fraction#toString()} for a {@link BufferedWriter}.
+ * Both discard the bytes, run with {@code -prof gc} to compare the allocation per line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FractionWriterBenchmark {
+    private static final int LINES = 1_024;
+
+    private String[][] args;
+    private Fraction[] results;
+    private Writer bufferedWriter;
+    private FractionWriter fractionWriter;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        args = new String[LINES][];
+        results = new Fraction[LINES];
+
+        for (int i = 0; i < LINES; i++) {
+            Fraction x = Fraction.with(random.nextInt(99_999) - 49_999, random.nextInt(999) + 1);
+            Fraction y = MixedFraction.with(random.nextInt(99) + 1, random.nextInt(99) + 1, random.nextInt(99) + 101);
+
+            args[i] = new String[] { x.toString(), "*", y.toString() };
+            results[i] = MixedFraction.parse(Fraction.with(random.nextInt(), random.nextInt(99_999) + 1));
+        }
+
+        bufferedWriter = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(),
+                StandardCharsets.UTF_8), FractionWriter.DEFAULT_BUFFER_SIZE);
+        fractionWriter = new FractionWriter(new DiscardingChannel());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public Writer resultOutput() throws IOException {
+        for (int i = 0; i < LINES; i++) {
+            bufferedWriter.write(Message.resultOutput(args[i], results[i].toString()));
+            bufferedWriter.write('\n');
+        }
+
+        bufferedWriter.flush();
+        return bufferedWriter;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public Writer fractionWriter() throws IOException {
+        for (int i = 0; i < LINES; i++) {
+            fractionWriter.writeResult(args[i], results[i]).write('\n');
+        }
+
+        fractionWriter.flush();
+        return fractionWriter;
+    }
+
+    private static class DiscardingChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer source) {
+            int length = source.remaining();
+            source.position(source.limit());
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
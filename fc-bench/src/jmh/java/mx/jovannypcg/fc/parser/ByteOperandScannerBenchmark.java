@@ -0,0 +1,69 @@
+package mx.jovannypcg.fc.parser;
+
+import mx.jovannypcg.fc.domain.Operands;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scanning both operands of a line of ASCII bytes with {@link ByteOperandScanner} against decoding
+ * them into {@code String}s first for {@link OperandScanner}. {@code digits} is the number of digits of every
+ * number within the operands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ByteOperandScannerBenchmark {
+    @Param({ "1", "4", "9" })
+    public int digits;
+
+    private ByteOperandScanner scanner;
+    private byte[] line;
+    private ByteBuffer directLine;
+    private int operatorPosition;
+
+    @Setup
+    public void setUp() {
+        String number = Operands.number(digits);
+        String text = number + "/" + number + " + -1_" + number + "/" + number;
+
+        scanner = new ByteOperandScanner();
+        line = text.getBytes(StandardCharsets.US_ASCII);
+        directLine = ByteBuffer.allocateDirect(line.length);
+        directLine.put(line).flip();
+        operatorPosition = text.indexOf('+');
+    }
+
+    @Benchmark
+    public long scanBytes() {
+        long x = scanner.scan(line, 0, line.length);
+        long y = scanner.scan(line, operatorPosition + 1, line.length - operatorPosition - 1);
+        return x ^ y;
+    }
+
+    @Benchmark
+    public long scanDirectBuffer() {
+        directLine.clear();
+        long x = scanner.scan(directLine);
+        directLine.position(operatorPosition + 1);
+        long y = scanner.scan(directLine);
+        return x ^ y;
+    }
+
+    @Benchmark
+    public long decodeAndScan() {
+        String x = new String(line, 0, operatorPosition - 1, StandardCharsets.US_ASCII);
+        String y = new String(line, operatorPosition + 2, line.length - operatorPosition - 2,
+                StandardCharsets.US_ASCII);
+        return OperandScanner.scan(x) ^ OperandScanner.scan(y);
+    }
+}
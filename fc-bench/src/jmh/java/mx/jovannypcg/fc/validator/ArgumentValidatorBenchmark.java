@@ -0,0 +1,42 @@
+package mx.jovannypcg.fc.validator;
+
+import mx.jovannypcg.fc.domain.Operands;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of the arguments of an operation, see {@link ArgumentValidator#validate(String...)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentValidatorBenchmark {
+    @Param({ "1", "4", "9" })
+    public int digits;
+
+    private ArgumentValidator argumentValidator;
+    private String[] args;
+
+    @Setup
+    public void setUp() {
+        String number = Operands.number(digits);
+
+        argumentValidator = new ArgumentValidator();
+        args = new String[] { number + "/" + number, "*", "-" + number + "_" + number + "/" + number };
+    }
+
+    @Benchmark
+    public String[] validate() throws CalculatorException {
+        argumentValidator.validate(args);
+        return args;
+    }
+}
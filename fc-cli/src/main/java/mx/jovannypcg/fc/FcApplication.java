@@ -0,0 +1,61 @@
+package mx.jovannypcg.fc;
+
+import mx.jovannypcg.fc.command.BatchProcessor;
+import mx.jovannypcg.fc.command.CachingFractionCalculator;
+import mx.jovannypcg.fc.command.CalculationServer;
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.command.MappedBatchProcessor;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Spring Boot entry point. See {@link FcLauncher} for an entry point which starts faster by skipping
+ * the application context.
+ *
+ * The classes from fc-core do not depend on Spring, so they are registered as beans here. The bean methods
+ * are static because this class depends on those beans itself.
+ */
+@SpringBootApplication
+public class FcApplication implements CommandLineRunner {
+    private FcCommandLine commandLine;
+
+    public FcApplication(FractionCalculator fractionCalculator,
+                         BatchProcessor batchProcessor,
+                         MappedBatchProcessor mappedBatchProcessor,
+                         CalculationServer calculationServer,
+                         @Value("${" + FcCommandLine.METRICS_PROPERTY + ":}") String metricsFormat) {
+        this.commandLine = new FcCommandLine(fractionCalculator, batchProcessor, mappedBatchProcessor,
+                calculationServer, metricsFormat);
+    }
+
+    public static void main(String[] args) {
+        SpringApplication.run(FcApplication.class, args);
+    }
+
+    @Bean
+    public static ArgumentValidator argumentValidator() {
+        return new ArgumentValidator();
+    }
+
+    /**
+     * Results are cached only if {@link FcCommandLine#CACHE_SIZE_PROPERTY} is set to a positive number, and
+     * metrics are recorded only if {@link FcCommandLine#METRICS_PROPERTY} is set.
+     */
+    @Bean
+    public static FractionCalculator fractionCalculator(ArgumentValidator argumentValidator,
+                                                        @Value("${" + FcCommandLine.CACHE_SIZE_PROPERTY + ":0}")
+                                                                int cacheSize,
+                                                        @Value("${" + FcCommandLine.METRICS_PROPERTY + ":}")
+                                                                String metricsFormat) {
+        return CachingFractionCalculator.create(argumentValidator, cacheSize, FcCommandLine.metrics(metricsFormat));
+    }
+
+    @Override
+    public void run(String... args) {
+        commandLine.run(args);
+    }
+}
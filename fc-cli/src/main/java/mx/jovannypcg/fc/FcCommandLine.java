@@ -0,0 +1,240 @@
+package mx.jovannypcg.fc;
+
+import mx.jovannypcg.fc.command.BatchProcessor;
+import mx.jovannypcg.fc.command.CachingFractionCalculator;
+import mx.jovannypcg.fc.command.CalculationServer;
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.command.MappedBatchProcessor;
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.io.BinaryFractionReader;
+import mx.jovannypcg.fc.io.BinaryFractionWriter;
+import mx.jovannypcg.fc.io.FractionWriter;
+import mx.jovannypcg.fc.metrics.CalculatorMetrics;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StreamCorruptedException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Dispatches the command line arguments to the calculator, batch processors or server. It is shared by
+ * {@link FcApplication} and {@link FcLauncher}, so both entry points behave exactly the same, and it does not
+ * depend on Spring.
+ */
+public class FcCommandLine {
+    static final String BATCH_OPTION = "--batch";
+    static final String PARALLEL_BATCH_OPTION = "--parallel-batch";
+    static final String BINARY_BATCH_OPTION = "--binary-batch";
+    static final String SERVER_OPTION = "--server";
+    static final String STANDARD_INPUT = "-";
+
+    /**
+     * Property with the number of results remembered by {@link CachingFractionCalculator}, the cache is disabled
+     * unless it is set to a positive number. Read as a system property by {@link FcCommandLine#create()}, and from
+     * every property source of Spring, such as {@code application.properties} or {@code --fc.cache.size=N}, by
+     * {@link FcApplication}.
+     */
+    public static final String CACHE_SIZE_PROPERTY = "fc.cache.size";
+
+    /**
+     * Property which enables {@link CalculatorMetrics} when set to {@code text} or {@code json}, the metrics are then
+     * written to the standard error in that format when the program exits. Read from the same sources as
+     * {@link FcCommandLine#CACHE_SIZE_PROPERTY}.
+     */
+    public static final String METRICS_PROPERTY = "fc.metrics";
+    static final String JSON_METRICS = "json";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private FractionCalculator fractionCalculator;
+    private BatchProcessor batchProcessor;
+    private MappedBatchProcessor mappedBatchProcessor;
+    private CalculationServer calculationServer;
+    private String metricsFormat;
+
+    /**
+     * @param metricsFormat Value of {@link FcCommandLine#METRICS_PROPERTY}, the same one {@code fractionCalculator}
+     *                      was created with.
+     */
+    public FcCommandLine(FractionCalculator fractionCalculator,
+                         BatchProcessor batchProcessor,
+                         MappedBatchProcessor mappedBatchProcessor,
+                         CalculationServer calculationServer,
+                         String metricsFormat) {
+        this.fractionCalculator = fractionCalculator;
+        this.batchProcessor = batchProcessor;
+        this.mappedBatchProcessor = mappedBatchProcessor;
+        this.calculationServer = calculationServer;
+        this.metricsFormat = metricsFormat;
+    }
+
+    /**
+     * Wires every collaborator by hand, the same way Spring would, reading the properties from the system
+     * properties only.
+     *
+     * @return Command line ready to run.
+     */
+    public static FcCommandLine create() {
+        String metricsFormat = System.getProperty(METRICS_PROPERTY);
+        FractionCalculator fractionCalculator = CachingFractionCalculator.create(new ArgumentValidator(),
+                Integer.getInteger(CACHE_SIZE_PROPERTY, 0), metrics(metricsFormat));
+        BatchProcessor batchProcessor = new BatchProcessor(fractionCalculator);
+
+        return new FcCommandLine(fractionCalculator,
+                batchProcessor,
+                new MappedBatchProcessor(batchProcessor),
+                new CalculationServer(batchProcessor),
+                metricsFormat);
+    }
+
+    /**
+     * @param format Value of {@link FcCommandLine#METRICS_PROPERTY}.
+     * @return Metrics to record, {@code null} if {@code format} is blank.
+     */
+    public static CalculatorMetrics metrics(String format) {
+        return format == null || format.trim().isEmpty() ? null : new CalculatorMetrics();
+    }
+
+    /**
+     * Runs the program for the given command line arguments.
+     *
+     * @param args Command line arguments.
+     */
+    public void run(String... args) {
+        CalculatorMetrics metrics = fractionCalculator.getMetrics();
+
+        if (metrics != null) {
+            boolean json = JSON_METRICS.equalsIgnoreCase(metricsFormat);
+            Runtime.getRuntime().addShutdownHook(new Thread(() ->
+                    System.err.println(json ? metrics.toJson() : metrics.toText())));
+        }
+
+        if (args.length > 0 && BATCH_OPTION.equals(args[0])) {
+            runBatch(args.length > 1 ? args[1] : STANDARD_INPUT);
+            return;
+        }
+
+        if (args.length > 0 && BINARY_BATCH_OPTION.equals(args[0])) {
+            runBinaryBatch(args.length > 1 ? args[1] : STANDARD_INPUT);
+            return;
+        }
+
+        if (args.length > 1 && PARALLEL_BATCH_OPTION.equals(args[0])) {
+            runParallelBatch(args[1], args.length > 2 ? args[2] : null);
+            return;
+        }
+
+        if (args.length > 0 && SERVER_OPTION.equals(args[0])) {
+            runServer(args.length > 1 ? args[1] : null);
+            return;
+        }
+
+        try {
+            Fraction result = fractionCalculator.perform(args);
+            System.out.println(Message.resultOutput(args, result.toString()));
+        } catch (CalculatorException ce) {
+            System.out.println(Message.usage(ce.getMessage()));
+        }
+    }
+
+    /**
+     * Evaluates every line of {@code source} through {@link BatchProcessor}.
+     *
+     * @param source Path of the file with the expressions, or {@code -} to read them from the standard input.
+     */
+    private void runBatch(String source) {
+        Writer output = new FractionWriter(Channels.newChannel(System.out), OUTPUT_BUFFER_SIZE);
+
+        try (BufferedReader input = STANDARD_INPUT.equals(source)
+                ? new BufferedReader(new InputStreamReader(System.in))
+                : Files.newBufferedReader(Paths.get(source))) {
+            batchProcessor.process(input, output);
+        } catch (IOException ioe) {
+            System.out.println(Message.usage(Message.unreadableInput(source)));
+        }
+    }
+
+    /**
+     * Evaluates every operation of {@code source}, in the format of {@link BinaryFractionReader}, through
+     * {@link BatchProcessor} and writes the results to the standard output in the same format.
+     *
+     * Diagnostics go to the standard error, so they never get mixed with the binary results. The results of the
+     * operations read before a corrupted or truncated operation are still written.
+     *
+     * @param source Path of the file with the operations, or {@code -} to read them from the standard input.
+     */
+    private void runBinaryBatch(String source) {
+        BinaryFractionWriter output = new BinaryFractionWriter(Channels.newChannel(System.out), OUTPUT_BUFFER_SIZE);
+
+        try (ReadableByteChannel channel = STANDARD_INPUT.equals(source)
+                ? Channels.newChannel(System.in)
+                : FileChannel.open(Paths.get(source))) {
+            batchProcessor.process(new BinaryFractionReader(channel), output);
+        } catch (StreamCorruptedException | EOFException corrupted) {
+            System.err.println(Message.corruptedInput(source, corrupted.getMessage()));
+        } catch (IOException ioe) {
+            System.err.println(Message.usage(Message.unreadableInput(source)));
+        } finally {
+            flush(output);
+        }
+    }
+
+    private static void flush(BinaryFractionWriter output) {
+        try {
+            output.flush();
+        } catch (IOException ioe) {
+            System.err.println(ioe.getMessage());
+        }
+    }
+
+    /**
+     * Evaluates every line of {@code file} through {@link MappedBatchProcessor}.
+     *
+     * @param file Path of the file with the expressions.
+     * @param threads Number of threads to use, {@code null} to use one per available processor.
+     */
+    private void runParallelBatch(String file, String threads) {
+        Writer output = new FractionWriter(Channels.newChannel(System.out), OUTPUT_BUFFER_SIZE);
+        int parallelism = Runtime.getRuntime().availableProcessors();
+
+        try {
+            if (threads != null) {
+                parallelism = Integer.parseInt(threads);
+            }
+            mappedBatchProcessor.process(Paths.get(file), output, Math.max(1, parallelism));
+        } catch (NumberFormatException nfe) {
+            System.out.println(Message.usage(Message.badThreadCount(threads)));
+        } catch (IOException ioe) {
+            System.out.println(Message.usage(Message.unreadableInput(file)));
+        }
+    }
+
+    /**
+     * Starts {@link CalculationServer}, which keeps running after this method returns.
+     *
+     * @param port Port to listen on, {@code null} to use {@link CalculationServer#DEFAULT_PORT}.
+     */
+    private void runServer(String port) {
+        int requestedPort = CalculationServer.DEFAULT_PORT;
+
+        try {
+            if (port != null) {
+                requestedPort = Integer.parseInt(port);
+            }
+            System.out.println(Message.listening(calculationServer.start(requestedPort)));
+        } catch (NumberFormatException nfe) {
+            System.out.println(Message.usage(Message.badPort(port)));
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println(Message.usage(Message.unableToListen(requestedPort)));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package mx.jovannypcg.fc;
+
+/**
+ * Lean entry point for single-shot invocations. It wires the calculator by hand instead of scanning the
+ * classpath and building a Spring application context, which is where {@link FcApplication} spends most
+ * of its startup time. Neither this class nor {@link FcCommandLine} loads any Spring class, so it can run
+ * from a jar with the classes of this project only.
+ */
+public class FcLauncher {
+    public static void main(String[] args) {
+        FcCommandLine.create().run(args);
+    }
+}
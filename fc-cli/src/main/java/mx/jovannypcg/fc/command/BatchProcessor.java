@@ -0,0 +1,189 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.io.BinaryFractionReader;
+import mx.jovannypcg.fc.io.BinaryFractionWriter;
+import mx.jovannypcg.fc.io.FractionWriter;
+import mx.jovannypcg.fc.metrics.CalculatorMetrics;
+import mx.jovannypcg.fc.metrics.Stage;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates many expressions within the same JVM, one expression per line, so the startup cost
+ * is paid only once. Each line has the shape {@code <operand> <operator> <operand>}, the same as the
+ * arguments accepted by {@link FractionCalculator#perform(String...)}.
+ *
+ * Invalid lines do not abort the run, a failure record is written in their place instead.
+ */
+@Component
+public class BatchProcessor {
+    private FractionCalculator fractionCalculator;
+
+    public BatchProcessor(FractionCalculator fractionCalculator) {
+        this.fractionCalculator = fractionCalculator;
+    }
+
+    /**
+     * Reads every line from {@code input}, evaluates it and writes either the result or a failure record
+     * to {@code output}, keeping the order of the input. Blank lines are skipped.
+     *
+     * The caller is expected to provide buffered streams, {@code output} is flushed once all the lines
+     * have been processed. Results are written without intermediate {@code String}s when {@code output} is a
+     * {@link FractionWriter}.
+     *
+     * @param input Source of the expressions, one per line.
+     * @param output Destination of the results, one per line.
+     * @return Number of lines that could not be evaluated.
+     * @throws IOException If {@code input} cannot be read or {@code output} cannot be written.
+     */
+    public long process(BufferedReader input, Writer output) throws IOException {
+        long lineNumber = 0;
+        long failures = 0;
+        String line;
+
+        while ((line = input.readLine()) != null) {
+            lineNumber++;
+            String[] args = split(line);
+
+            if (args.length == 0) {
+                continue;
+            }
+
+            FractionResult result = evaluate(args);
+
+            if (result.isSuccess()) {
+                long start = startFormat();
+                write(output, args, result);
+                lapFormat(start);
+            } else {
+                output.write(Message.lineFailure(lineNumber, result.getError().getMessage()));
+                failures++;
+            }
+
+            output.write('\n');
+        }
+
+        output.flush();
+        return failures;
+    }
+
+    /**
+     * Binary counterpart of {@link BatchProcessor#process(BufferedReader, Writer)}: reads every operation from
+     * {@code input} and writes either its result or the reason why it failed to {@code output}, keeping the order of
+     * the input. Nothing is parsed nor formatted as text.
+     *
+     * @param input Source of the operations.
+     * @param output Destination of the results, one per operation.
+     * @return Number of operations that could not be evaluated.
+     * @throws IOException If {@code input} cannot be read or is malformed, or {@code output} cannot be written.
+     */
+    public long process(BinaryFractionReader input, BinaryFractionWriter output) throws IOException {
+        long failures = 0;
+        int operator;
+
+        while ((operator = input.readOperator()) != BinaryFractionReader.END_OF_STREAM) {
+            FractionResult result = fractionCalculator.tryPerform((char) operator, input.readFraction(),
+                    input.readFraction());
+
+            long start = startFormat();
+            output.writeResult(result);
+            lapFormat(start);
+
+            if (!result.isSuccess()) {
+                failures++;
+            }
+        }
+
+        output.flush();
+        return failures;
+    }
+
+    /**
+     * Evaluates a single expression, already split into its arguments. Invalid expressions are reported through
+     * the result instead of an exception, since they are expected in large inputs.
+     *
+     * @param args Operands and operator of the expression.
+     * @return Result of the expression, or the reason why it failed.
+     */
+    protected FractionResult evaluate(String... args) {
+        return fractionCalculator.tryPerform(args);
+    }
+
+    /**
+     * Starts timing the output of a result, if the calculator records its metrics.
+     */
+    private long startFormat() {
+        CalculatorMetrics metrics = fractionCalculator.getMetrics();
+        return metrics != null ? metrics.start() : CalculatorMetrics.NOT_TIMED;
+    }
+
+    private void lapFormat(long start) {
+        CalculatorMetrics metrics = fractionCalculator.getMetrics();
+
+        if (metrics != null) {
+            metrics.lap(Stage.FORMAT, start);
+        }
+    }
+
+    /**
+     * @param args Operands and operator of the expression.
+     * @param result Successful result of the expression.
+     * @return Output line for the expression, as shown by {@link Message#resultOutput(String[], String)}.
+     */
+    protected static String format(String[] args, FractionResult result) {
+        return Message.resultOutput(args, result.getValue().toString());
+    }
+
+    /**
+     * Writes the output line for the expression, straight into the buffer of {@code output} if it is a
+     * {@link FractionWriter}.
+     *
+     * @param output Destination of the line.
+     * @param args Operands and operator of the expression.
+     * @param result Successful result of the expression.
+     * @throws IOException If {@code output} cannot be written.
+     */
+    protected static void write(Writer output, String[] args, FractionResult result) throws IOException {
+        if (output instanceof FractionWriter) {
+            ((FractionWriter) output).writeResult(args, result.getValue());
+        } else {
+            output.write(format(args, result));
+        }
+    }
+
+    /**
+     * Splits {@code line} on whitespace without going through a regular expression.
+     *
+     * @param line Line to split.
+     * @return Non blank tokens of the line, in order.
+     */
+    protected static String[] split(String line) {
+        List<String> tokens = new ArrayList<>(3);
+        int length = line.length();
+        int start = -1;
+
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                if (start >= 0) {
+                    tokens.add(line.substring(start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+
+        if (start >= 0) {
+            tokens.add(line.substring(start));
+        }
+
+        return tokens.toArray(new String[0]);
+    }
+}
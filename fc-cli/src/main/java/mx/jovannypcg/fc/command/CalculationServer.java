@@ -0,0 +1,306 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.io.FractionWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-running server which keeps {@link FractionCalculator} warm, so clients pay neither the JVM nor the
+ * Spring startup on every calculation. It listens on the loopback interface only.
+ *
+ * The protocol is line based: every line sent by the client is evaluated as in {@link BatchProcessor} and
+ * answered with exactly one line, either the result or a failure record numbered after the line within the
+ * connection. Blank lines are skipped without an answer, as in batch mode. Clients may pipeline requests, sending
+ * many lines without waiting for the answers, which are always written in the same order as the requests and
+ * flushed once no more requests are pending.
+ *
+ * A single client cannot exhaust the server: at most {@link CalculationServer#MAX_CONNECTIONS} connections are
+ * served at once, further ones are answered with a failure line and closed, and lines longer than
+ * {@link CalculationServer#MAX_LINE_LENGTH} characters are answered with a failure without being kept in memory.
+ */
+@Component
+public class CalculationServer implements Closeable {
+    public static final int DEFAULT_PORT = 7311;
+    public static final int MAX_CONNECTIONS = 64;
+    public static final int MAX_LINE_LENGTH = 1 << 13;
+    private static final int BUFFER_SIZE = 1 << 14;
+    private static final long MIN_ACCEPT_BACKOFF_MILLIS = 10;
+    private static final long MAX_ACCEPT_BACKOFF_MILLIS = 1000;
+
+    private BatchProcessor batchProcessor;
+    private ServerSocket serverSocket;
+    private ExecutorService connections;
+
+    public CalculationServer(BatchProcessor batchProcessor) {
+        this.batchProcessor = batchProcessor;
+    }
+
+    /**
+     * Binds the server to {@code port} on the loopback interface and starts accepting connections in the
+     * background, each connection is served by its own thread, up to {@link CalculationServer#MAX_CONNECTIONS}.
+     *
+     * @param port Port to listen on, 0 to pick any free port.
+     * @return The port the server is listening on.
+     * @throws IOException If the port cannot be bound.
+     * @throws IllegalStateException If the server is already started and not closed yet.
+     */
+    public synchronized int start(int port) throws IOException {
+        if (serverSocket != null && !serverSocket.isClosed()) {
+            throw new IllegalStateException("Server already listening on port " + serverSocket.getLocalPort());
+        }
+
+        ServerSocket listener = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        // no queue: a connection is either served right away or refused
+        ExecutorService executor = new ThreadPoolExecutor(0, MAX_CONNECTIONS, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "fc-connection");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        serverSocket = listener;
+        connections = executor;
+
+        Thread acceptor = new Thread(() -> accept(listener, executor), "fc-server");
+        acceptor.start();
+
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections and closes the ones already open.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+            connections.shutdownNow();
+        }
+    }
+
+    /**
+     * Accepts connections until {@code listener} is closed. Failures which leave the listener open, such as running
+     * out of file descriptors, are retried after a delay which doubles on every consecutive failure, so they do not
+     * keep a core busy until the condition clears.
+     */
+    private void accept(ServerSocket listener, ExecutorService executor) {
+        long backoff = MIN_ACCEPT_BACKOFF_MILLIS;
+
+        while (!listener.isClosed()) {
+            Socket socket;
+
+            try {
+                socket = listener.accept();
+                backoff = MIN_ACCEPT_BACKOFF_MILLIS;
+            } catch (IOException ioe) {
+                if (listener.isClosed()) {
+                    return;
+                }
+
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                backoff = Math.min(backoff * 2, MAX_ACCEPT_BACKOFF_MILLIS);
+                continue;
+            }
+
+            try {
+                executor.execute(() -> serve(socket));
+            } catch (RejectedExecutionException ree) {
+                if (executor.isShutdown()) {
+                    // the server was closed while the connection was being accepted
+                    closeQuietly(socket);
+                    return;
+                }
+
+                refuse(socket);
+            }
+        }
+    }
+
+    /**
+     * Answers a connection which cannot be served with a failure line, small enough to never block the acceptor.
+     */
+    private static void refuse(Socket socket) {
+        try (Socket client = socket) {
+            client.getOutputStream()
+                    .write((Message.tooManyConnections(MAX_CONNECTIONS) + '\n').getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ioe) {
+            // the client went away already
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ioe) {
+            // the connection is gone already
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket client = socket;
+             Reader input = new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8);
+             Writer output = new FractionWriter(Channels.newChannel(client.getOutputStream()), BUFFER_SIZE)) {
+            client.setTcpNoDelay(true);
+            serve(input, output);
+        } catch (SocketException se) {
+            // the client closed the connection, or the server was closed
+        } catch (IOException ioe) {
+            // nothing to answer to, the connection is gone
+        }
+    }
+
+    /**
+     * Answers every line of {@code input} on {@code output}. The answers are flushed only before waiting for more
+     * requests, so a pipelined burst of requests is answered with a single write.
+     *
+     * @param input Requests, one per line.
+     * @param output Answers, one per line.
+     * @throws IOException If the connection fails.
+     */
+    protected void serve(Reader input, Writer output) throws IOException {
+        LineReader lines = new LineReader(input, output);
+        long lineNumber = 0;
+        String line;
+
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+
+            if (lines.isTooLong()) {
+                output.write(Message.lineFailure(lineNumber, Message.lineTooLong(MAX_LINE_LENGTH)));
+                output.write('\n');
+            } else {
+                String[] args = BatchProcessor.split(line);
+
+                if (args.length > 0) {
+                    FractionResult result = batchProcessor.evaluate(args);
+
+                    if (result.isSuccess()) {
+                        BatchProcessor.write(output, args, result);
+                    } else {
+                        output.write(Message.lineFailure(lineNumber, result.getError().getMessage()));
+                    }
+
+                    output.write('\n');
+                }
+            }
+        }
+
+        output.flush();
+    }
+
+    /**
+     * Splits the requests into lines ended by {@code \n}, {@code \r} or {@code \r\n}, like
+     * {@link BufferedReader#readLine()}, but keeps at most {@link CalculationServer#MAX_LINE_LENGTH} characters of
+     * a line in memory. The rest of a longer line is read and dropped.
+     *
+     * Before any read which would block, {@code pending} is flushed, so the client gets every answer to the
+     * requests sent so far before the server waits for more.
+     */
+    private static final class LineReader {
+        private final Reader input;
+        private final Flushable pending;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean skipLineFeed;
+        private boolean tooLong;
+
+        LineReader(Reader input, Flushable pending) {
+            this.input = input;
+            this.pending = pending;
+        }
+
+        /**
+         * @return The next line without its terminator, {@code null} once the input is over.
+         */
+        String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+
+            while (true) {
+                if (position == limit) {
+                    if (!input.ready()) {
+                        pending.flush();
+                    }
+
+                    int read = input.read(buffer, 0, buffer.length);
+
+                    if (read < 0) {
+                        return line.length() > 0 || tooLong ? line.toString() : null;
+                    }
+
+                    position = 0;
+                    limit = read;
+                    continue;
+                }
+
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+
+                    if (buffer[position] == '\n') {
+                        position++;
+                        continue;
+                    }
+                }
+
+                int start = position;
+
+                while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') {
+                    position++;
+                }
+
+                append(start, position);
+
+                if (position < limit) {
+                    skipLineFeed = buffer[position++] == '\r';
+                    return line.toString();
+                }
+            }
+        }
+
+        /**
+         * @return {@code true} if the last line was longer than {@link CalculationServer#MAX_LINE_LENGTH}.
+         */
+        boolean isTooLong() {
+            return tooLong;
+        }
+
+        private void append(int start, int end) {
+            int room = MAX_LINE_LENGTH - line.length();
+
+            if (end - start > room) {
+                tooLong = true;
+                line.append(buffer, start, room);
+            } else {
+                line.append(buffer, start, end - start);
+            }
+        }
+    }
+}
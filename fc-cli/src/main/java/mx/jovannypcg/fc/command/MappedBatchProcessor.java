@@ -0,0 +1,259 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.io.FractionWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Evaluates large expression files using every available core. The file is memory-mapped in
+ * newline-aligned chunks which are evaluated in parallel on a {@link ForkJoinPool}, the results
+ * are written in the same order as the input, exactly as {@link BatchProcessor} would write them. Every chunk
+ * formats its results through a {@link FractionWriter} into UTF-8 bytes, which are copied as they are into
+ * {@code output} when it is a {@code FractionWriter} too.
+ *
+ * Only a bounded number of chunks is kept in flight, so the memory needed does not depend on the size
+ * of the file. Files are decoded as UTF-8, like the ones read by {@link BatchProcessor} from the command line.
+ */
+@Component
+public class MappedBatchProcessor {
+    static final int CHUNK_SIZE = 1 << 23; // 8 MB
+    private static final int BOUNDARY_SCAN_SIZE = 1 << 12;
+    private static final int IN_FLIGHT_CHUNKS_PER_THREAD = 4;
+    private static final int TEXT_BUFFER_SIZE = 1 << 13;
+
+    private BatchProcessor batchProcessor;
+
+    public MappedBatchProcessor(BatchProcessor batchProcessor) {
+        this.batchProcessor = batchProcessor;
+    }
+
+    /**
+     * Evaluates every line of {@code file} and writes either the result or a failure record to {@code output}.
+     *
+     * @param file File with the expressions, one per line.
+     * @param output Destination of the results, one per line.
+     * @param parallelism Number of threads used to evaluate the chunks.
+     * @return Number of lines that could not be evaluated.
+     * @throws IOException If {@code file} cannot be read or {@code output} cannot be written.
+     */
+    public long process(Path file, Writer output, int parallelism) throws IOException {
+        return process(file, output, parallelism, CHUNK_SIZE);
+    }
+
+    protected long process(Path file, Writer output, int parallelism, int chunkSize) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        int maxInFlight = parallelism * IN_FLIGHT_CHUNKS_PER_THREAD;
+        long failures = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] boundaries = chunkBoundaries(channel, chunkSize);
+            Deque<ForkJoinTask<ChunkResult>> inFlight = new ArrayDeque<>(maxInFlight);
+            long lineBase = 0;
+            int next = 0;
+
+            while (next < boundaries.length - 1 || !inFlight.isEmpty()) {
+                while (next < boundaries.length - 1 && inFlight.size() < maxInFlight) {
+                    ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY,
+                            boundaries[next], boundaries[next + 1] - boundaries[next]);
+                    inFlight.add(pool.submit(() -> evaluateChunk(chunk)));
+                    next++;
+                }
+
+                ChunkResult result = inFlight.poll().join();
+                result.writeTo(output, lineBase);
+                lineBase += result.lines;
+                failures += result.failures.size();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        output.flush();
+        return failures;
+    }
+
+    /**
+     * Splits the content of {@code channel} into chunks of roughly {@code chunkSize} bytes. Every chunk but
+     * the last one ends right after a new line, so no line is shared by two chunks.
+     *
+     * @return Offsets where each chunk starts, followed by the size of the file.
+     */
+    protected static long[] chunkBoundaries(FileChannel channel, int chunkSize) throws IOException {
+        long size = channel.size();
+        ByteBuffer window = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long[] boundaries = new long[16];
+        int count = 1; // boundaries[0] = 0
+
+        long boundary = 0;
+
+        while (boundary < size) {
+            long position = Math.min(boundary + chunkSize, size);
+            boundary = size;
+
+            while (position < size) {
+                window.clear();
+                int read = channel.read(window, position);
+
+                int newLine = indexOfNewLine(window, read);
+                if (newLine >= 0) {
+                    boundary = position + newLine + 1;
+                    break;
+                }
+
+                position += read;
+            }
+
+            if (count == boundaries.length) {
+                boundaries = Arrays.copyOf(boundaries, count * 2);
+            }
+            boundaries[count++] = boundary;
+        }
+
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    private static int indexOfNewLine(ByteBuffer window, int length) {
+        for (int i = 0; i < length; i++) {
+            if (window.get(i) == '\n') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Evaluates every line of {@code chunk}. Line numbers of the failures are relative to the chunk,
+     * they are resolved once the results of the previous chunks are known.
+     *
+     * Lines end with {@code \n}, {@code \r} or {@code \r\n}, as for {@link BufferedReader#readLine()}. Chunks
+     * end right after a {@code \n}, so a {@code \r\n} is never split between two of them.
+     */
+    private ChunkResult evaluateChunk(ByteBuffer chunk) {
+        ChunkResult result = new ChunkResult();
+        byte[] line = new byte[128];
+        int length = 0;
+        int limit = chunk.limit();
+
+        for (int i = 0; i < limit; i++) {
+            byte b = chunk.get(i);
+
+            if (b == '\n' || b == '\r') {
+                result.evaluate(line, length);
+                length = 0;
+
+                if (b == '\r' && i + 1 < limit && chunk.get(i + 1) == '\n') {
+                    i++;
+                }
+            } else {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = b;
+            }
+        }
+
+        if (length > 0) {
+            result.evaluate(line, length);
+        }
+
+        return result;
+    }
+
+    private class ChunkResult {
+        private final Sink sink = new Sink();
+        private final FractionWriter text = new FractionWriter(Channels.newChannel(sink), TEXT_BUFFER_SIZE);
+        private final List<Failure> failures = new ArrayList<>();
+        private long lines;
+
+        private void evaluate(byte[] line, int length) {
+            lines++;
+            String[] args = BatchProcessor.split(new String(line, 0, length, StandardCharsets.UTF_8));
+
+            if (args.length == 0) {
+                return;
+            }
+
+            FractionResult result = batchProcessor.evaluate(args);
+
+            try {
+                if (result.isSuccess()) {
+                    text.writeResult(args, result.getValue()).write('\n');
+                } else {
+                    failures.add(new Failure(sink.size() + text.buffered(), lines, result.getError().getMessage()));
+                }
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe); // written into memory, never thrown
+            }
+        }
+
+        /**
+         * Writes the results of the chunk, straight as UTF-8 bytes if {@code output} is a {@link FractionWriter},
+         * with the failure records at their place.
+         */
+        private void writeTo(Writer output, long lineBase) throws IOException {
+            text.flush();
+
+            ByteBuffer bytes = sink.contents();
+            int written = 0;
+
+            for (Failure failure : failures) {
+                write(output, bytes, written, failure.offset);
+                output.write(Message.lineFailure(lineBase + failure.line, failure.reason));
+                output.write('\n');
+                written = failure.offset;
+            }
+
+            write(output, bytes, written, bytes.limit());
+        }
+
+        private void write(Writer output, ByteBuffer bytes, int from, int to) throws IOException {
+            if (output instanceof FractionWriter) {
+                ((FractionWriter) output).writeUtf8(bytes.duplicate().position(from).limit(to));
+            } else {
+                output.write(new String(bytes.array(), from, to - from, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Results of a chunk encoded as UTF-8, read back without copying them.
+     */
+    private static class Sink extends ByteArrayOutputStream {
+        private ByteBuffer contents() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    private static class Failure {
+        private final int offset;
+        private final long line;
+        private final String reason;
+
+        private Failure(int offset, long line, String reason) {
+            this.offset = offset;
+            this.line = line;
+            this.reason = reason;
+        }
+    }
+}
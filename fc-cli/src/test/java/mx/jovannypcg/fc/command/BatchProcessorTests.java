@@ -0,0 +1,128 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.io.BinaryFractionReader;
+import mx.jovannypcg.fc.io.BinaryFractionWriter;
+import mx.jovannypcg.fc.io.FractionWriter;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+public class BatchProcessorTests {
+    private BatchProcessor batchProcessor;
+
+    @Before
+    public void init() {
+        batchProcessor = new BatchProcessor(new FractionCalculator(new ArgumentValidator()));
+    }
+
+    @Test
+    public void process_shouldWriteOneResultPerLine() throws Exception {
+        String input = "1/2 + 3_3/4\n1/2 * 1/2\n3 - 1/4\n";
+        StringWriter output = new StringWriter();
+
+        long failures = batchProcessor.process(new BufferedReader(new StringReader(input)), output);
+
+        assertThat(failures).isZero();
+        assertThat(output.toString()).isEqualTo("1/2 + 3_3/4 = 4_1/4\n1/2 * 1/2 = 1/4\n3 - 1/4 = 2_3/4\n");
+    }
+
+    @Test
+    public void process_shouldWriteFailureRecordAndContinueOnInvalidLine() throws Exception {
+        String input = "1/2 + 1/2\n1/ + 2\n1/2 1/2\n2 / 4\n";
+        StringWriter output = new StringWriter();
+
+        long failures = batchProcessor.process(new BufferedReader(new StringReader(input)), output);
+
+        assertThat(failures).isEqualTo(2);
+        assertThat(output.toString().split("\n"))
+                .containsExactly("1/2 + 1/2 = 1",
+                        "Failure at line 2: Verify either the order of the operator and operands or the format of the operands",
+                        "Failure at line 3: Unexpected character at position 5 of expression 1/2 1/2",
+                        "2 / 4 = 1/2");
+    }
+
+    @Test
+    public void process_shouldEvaluateExpressions() throws Exception {
+        String input = "1/2 + 3_3/4 * ( 2 - 1/3 )\n";
+        StringWriter output = new StringWriter();
+
+        batchProcessor.process(new BufferedReader(new StringReader(input)), output);
+
+        assertThat(output.toString()).isEqualTo("1/2 + 3_3/4 * ( 2 - 1/3 ) = 6_3/4\n");
+    }
+
+    @Test
+    public void process_shouldSkipBlankLines() throws Exception {
+        String input = "\n   \n1 + 1\n\n";
+        StringWriter output = new StringWriter();
+
+        batchProcessor.process(new BufferedReader(new StringReader(input)), output);
+
+        assertThat(output.toString()).isEqualTo("1 + 1 = 2\n");
+    }
+
+    @Test
+    public void process_shouldWriteSameOutputThroughFractionWriter() throws Exception {
+        String input = "1/2 + 3_3/4\n1/ + 2\n\n-7/3 * 99999/2\n5 / 0\n3 - 1/4\n";
+        StringWriter expected = new StringWriter();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+
+        batchProcessor.process(new BufferedReader(new StringReader(input)), expected);
+        batchProcessor.process(new BufferedReader(new StringReader(input)),
+                new FractionWriter(Channels.newChannel(actual), 64));
+
+        assertThat(new String(actual.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void process_shouldEvaluateBinaryOperations() throws Exception {
+        ByteArrayOutputStream operations = new ByteArrayOutputStream();
+        ByteArrayOutputStream results = new ByteArrayOutputStream();
+
+        BinaryFractionWriter input = new BinaryFractionWriter(Channels.newChannel(operations));
+        input.writeOperation('+', Fraction.with(1, 2), MixedFraction.with(3, 3, 4))
+                .writeOperation('/', Fraction.with(1, 2), Fraction.with(1, 0))
+                .writeOperation('-', Fraction.with(3, 1), Fraction.with(1, 4))
+                .flush();
+
+        long failures = batchProcessor.process(
+                new BinaryFractionReader(Channels.newChannel(new ByteArrayInputStream(operations.toByteArray()))),
+                new BinaryFractionWriter(Channels.newChannel(results)));
+
+        BinaryFractionReader output =
+                new BinaryFractionReader(Channels.newChannel(new ByteArrayInputStream(results.toByteArray())));
+        FractionResult sum = output.readResult();
+        FractionResult failure = output.readResult();
+        FractionResult difference = output.readResult();
+
+        assertThat(failures).isOne();
+        assertThat(sum.getValue().toString()).isEqualTo("4_1/4");
+        assertThat(failure.getErrorCode()).isEqualTo(ErrorCode.ZERO_AS_DENOMINATOR);
+        assertThat(difference.getValue().toString()).isEqualTo("2_3/4");
+        assertThat(output.readResult()).isNull();
+    }
+
+    @Test
+    public void split_shouldIgnoreRepeatedWhitespace() {
+        assertThat(BatchProcessor.split("  1/2 \t+   -3_1/4 ")).containsExactly("1/2", "+", "-3_1/4");
+    }
+}
@@ -0,0 +1,163 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+public class CalculationServerTests {
+    private CalculationServer calculationServer;
+
+    @Before
+    public void init() {
+        calculationServer = new CalculationServer(new BatchProcessor(new FractionCalculator(new ArgumentValidator())));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        calculationServer.close();
+    }
+
+    @Test
+    public void serve_shouldAnswerEveryLineInOrder() throws Exception {
+        String input = "1/2 + 3_3/4\n1/ + 2\n\n1/2 + 3_3/4 * ( 2 - 1/3 )\n";
+        StringWriter output = new StringWriter();
+
+        calculationServer.serve(new BufferedReader(new StringReader(input)), output);
+
+        assertThat(output.toString().split("\n"))
+                .containsExactly("1/2 + 3_3/4 = 4_1/4",
+                        "Failure at line 2: Verify either the order of the operator and operands or the format of the operands",
+                        "1/2 + 3_3/4 * ( 2 - 1/3 ) = 6_3/4");
+    }
+
+    @Test
+    public void serve_shouldRejectLinesLongerThanMaximum() throws Exception {
+        StringBuilder input = new StringBuilder("1/2 + 1/2\r\n");
+
+        for (int i = 0; i < CalculationServer.MAX_LINE_LENGTH; i++) {
+            input.append(' ');
+        }
+
+        input.append("1\r1 * 2\n");
+        StringWriter output = new StringWriter();
+
+        calculationServer.serve(new StringReader(input.toString()), output);
+
+        assertThat(output.toString().split("\n"))
+                .containsExactly("1/2 + 1/2 = 1",
+                        "Failure at line 2: Line longer than " + CalculationServer.MAX_LINE_LENGTH + " characters",
+                        "1 * 2 = 2");
+    }
+
+    @Test
+    public void start_shouldRefuseConnectionsBeyondMaximum() throws Exception {
+        int port = calculationServer.start(0);
+        List<Socket> sockets = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < CalculationServer.MAX_CONNECTIONS; i++) {
+                Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                sockets.add(socket);
+                socket.getOutputStream().write("1 + 1\n".getBytes(StandardCharsets.UTF_8));
+
+                assertThat(reader(socket).readLine()).isEqualTo("1 + 1 = 2");
+            }
+
+            try (Socket refused = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                BufferedReader input = reader(refused);
+
+                assertThat(input.readLine()).isEqualTo("Too many connections, at most "
+                        + CalculationServer.MAX_CONNECTIONS + " are served at once");
+                assertThat(input.readLine()).isNull();
+            }
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    public void start_shouldAnswerPipelinedRequestsOverTcp() throws Exception {
+        int port = calculationServer.start(0);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader input = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            OutputStream output = socket.getOutputStream();
+            StringBuilder requests = new StringBuilder();
+
+            for (int i = 1; i <= 100; i++) {
+                requests.append(i).append(" * 1/").append(i + 1).append('\n');
+            }
+
+            output.write(requests.toString().getBytes(StandardCharsets.UTF_8));
+            output.flush();
+
+            for (int i = 1; i <= 100; i++) {
+                assertThat(input.readLine()).isEqualTo(i + " * 1/" + (i + 1) + " = " + i + "/" + (i + 1));
+            }
+
+            output.write("1 / 0\n".getBytes(StandardCharsets.UTF_8));
+            output.flush();
+
+            assertThat(input.readLine()).isEqualTo("1 / 0 = 1/0");
+        }
+    }
+
+    @Test
+    public void start_shouldRefuseToStartTwice() throws Exception {
+        int port = calculationServer.start(0);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> calculationServer.start(0));
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader input = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            socket.getOutputStream().write("1/2 + 1/2\n".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(input.readLine()).isEqualTo("1/2 + 1/2 = 1");
+        }
+    }
+
+    @Test
+    public void start_shouldStartAgainOnceClosed() throws Exception {
+        calculationServer.start(0);
+        calculationServer.close();
+
+        int port = calculationServer.start(0);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader input = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            socket.getOutputStream().write("3 * 1/3\n".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(input.readLine()).isEqualTo("3 * 1/3 = 1");
+        }
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+}
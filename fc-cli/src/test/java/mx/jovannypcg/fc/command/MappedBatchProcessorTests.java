@@ -0,0 +1,123 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.io.FractionWriter;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+public class MappedBatchProcessorTests {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private BatchProcessor batchProcessor;
+    private MappedBatchProcessor mappedBatchProcessor;
+
+    @Before
+    public void init() {
+        batchProcessor = new BatchProcessor(new FractionCalculator(new ArgumentValidator()));
+        mappedBatchProcessor = new MappedBatchProcessor(batchProcessor);
+    }
+
+    @Test
+    public void process_shouldWriteSameOutputAsSequentialBatch() throws Exception {
+        StringBuilder input = new StringBuilder();
+        String[] operators = { "+", "-", "*", "/" };
+
+        for (int i = 1; i <= 500; i++) {
+            if (i % 37 == 0) {
+                input.append("1/ ").append(operators[i % 4]).append(" 2\n"); // invalid line
+            } else if (i % 41 == 0) {
+                input.append('\n');
+            } else {
+                input.append(i % 9).append('_').append(i % 5).append("/7 ")
+                        .append(operators[i % 4]).append(' ')
+                        .append(-i).append('/').append(i % 11 + 1).append('\n');
+            }
+        }
+
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, input.toString().getBytes());
+
+        StringWriter expected = new StringWriter();
+        long expectedFailures = batchProcessor.process(new BufferedReader(new StringReader(input.toString())), expected);
+
+        StringWriter actual = new StringWriter();
+        long actualFailures = mappedBatchProcessor.process(file, actual, 4, 64);
+
+        assertThat(actualFailures).isEqualTo(expectedFailures).isPositive();
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void process_shouldEvaluateLastLineWithoutNewLine() throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, "1/2 + 1/2\n1/4 * 2".getBytes());
+
+        StringWriter output = new StringWriter();
+        mappedBatchProcessor.process(file, output, 2, 4);
+
+        assertThat(output.toString()).isEqualTo("1/2 + 1/2 = 1\n1/4 * 2 = 1/2\n");
+    }
+
+    @Test
+    public void process_shouldSplitLinesAndDecodeLikeSequentialBatch() throws Exception {
+        String input = "1/2 + 1/2\r\n1/ñ + 2\r\r1/4 * 2\r1 + 5 ÷ 2\n\r\n3 - 1/3";
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+
+        StringWriter expected = new StringWriter();
+        long expectedFailures = batchProcessor.process(new BufferedReader(new StringReader(input)), expected);
+
+        StringWriter actual = new StringWriter();
+        long actualFailures = mappedBatchProcessor.process(file, actual, 2, 8);
+
+        assertThat(actualFailures).isEqualTo(expectedFailures).isEqualTo(2);
+        assertThat(actual.toString()).isEqualTo(expected.toString()).contains("1 + 5 ÷ 2", "line 5");
+    }
+
+    @Test
+    public void process_shouldCopyResultsIntoFractionWriter() throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, "1/2 + 1/2\n1/ + 2\n1/4 * 2\n\n3_1/2 - 1/0\n5 / 2".getBytes());
+
+        StringWriter expected = new StringWriter();
+        mappedBatchProcessor.process(file, expected, 2, 8);
+
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        mappedBatchProcessor.process(file, new FractionWriter(Channels.newChannel(sink), 32), 2, 8);
+
+        assertThat(new String(sink.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void chunkBoundaries_shouldEndEveryChunkAfterNewLine() throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        byte[] content = "1 + 1\n22 + 22\n333 + 333\n".getBytes();
+        Files.write(file, content);
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            long[] boundaries = MappedBatchProcessor.chunkBoundaries(channel, 3);
+
+            assertThat(boundaries).containsExactly(0, 6, 14, 24);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package mx.jovannypcg.fc.aggregate;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.BigFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+
+import java.util.Arrays;
+
+/**
+ * Running exact sum of a stream of fractions, optimized for values sharing a handful of denominators.
+ *
+ * Instead of computing a least common multiple and a greatest common factor for every element, numerators are
+ * added into a {@code long} bucket per distinct denominator, found in an open addressing table, which is as cheap
+ * as an integer addition. Buckets are folded into a single fraction by {@link FractionCalculator} only when
+ * {@link FractionAccumulator#total()} is requested, when a bucket would overflow, or when there are more than
+ * {@link FractionAccumulator#MAX_BUCKETS} distinct denominators.
+ *
+ * Instances are mutable and must not be shared across threads, use one accumulator per thread and
+ * {@link FractionAccumulator#merge(FractionAccumulator)} them.
+ */
+public class FractionAccumulator {
+    /**
+     * Maximum number of distinct denominators kept in buckets before folding all of them.
+     */
+    public static final int MAX_BUCKETS = 512;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = 0;
+
+    private final FractionCalculator fractionCalculator;
+
+    private int[] denominators = new int[INITIAL_CAPACITY];
+    private long[] numerators = new long[INITIAL_CAPACITY];
+    private int size;
+    private Fraction folded = Fraction.with(0, 1);
+
+    public FractionAccumulator(FractionCalculator fractionCalculator) {
+        this.fractionCalculator = fractionCalculator;
+    }
+
+    /**
+     * Adds {@code fraction} to the running sum. Fractions whose values do not fit into an {@code int}, once mixed
+     * fractions are converted into simple fractions, or with 0 as denominator are added by
+     * {@link FractionCalculator} right away.
+     *
+     * @param fraction Fraction to add, mixed fractions are converted into simple fractions.
+     * @return This accumulator.
+     */
+    public FractionAccumulator add(Fraction fraction) {
+        Fraction simple = fraction instanceof MixedFraction ? fractionCalculator.reduce(fraction) : fraction;
+
+        if (simple instanceof BigFraction || simple.hasZeroAsDenominator()) {
+            folded = fractionCalculator.add(folded, fractionCalculator.reduce(simple));
+            return this;
+        }
+
+        return add(simple.getNumerator(), simple.getDenominator());
+    }
+
+    /**
+     * Adds {@code numerator}/{@code denominator} to the running sum, without reducing it.
+     *
+     * @param numerator The numerator.
+     * @param denominator The denominator.
+     * @return This accumulator.
+     * @throws ArithmeticException If {@code denominator} is 0.
+     */
+    public FractionAccumulator add(int numerator, int denominator) {
+        if (denominator == 0) {
+            throw new ArithmeticException("Zero denominator");
+        }
+
+        long value = numerator;
+
+        if (denominator < 0) {
+            if (denominator == Integer.MIN_VALUE) {
+                folded = fractionCalculator.add(folded, Fraction.with(-value, -(long) denominator));
+                return this;
+            }
+
+            value = -value;
+            denominator = -denominator;
+        }
+
+        int slot = slotOf(denominator);
+
+        if (denominators[slot] == EMPTY) {
+            if (size == MAX_BUCKETS) {
+                fold();
+                slot = slotOf(denominator);
+            } else if (2 * (size + 1) > denominators.length) {
+                grow();
+                slot = slotOf(denominator);
+            }
+
+            denominators[slot] = denominator;
+            size++;
+        }
+
+        long sum = numerators[slot] + value;
+
+        if (mustFlush(numerators[slot], value, sum)) {
+            folded = fractionCalculator.add(folded, Fraction.with(numerators[slot], (long) denominator));
+            sum = value;
+        }
+
+        numerators[slot] = sum;
+        return this;
+    }
+
+    /**
+     * Adds the running sum of {@code that} accumulator to this one.
+     *
+     * @param that Accumulator to merge, left unchanged.
+     * @return This accumulator.
+     */
+    public FractionAccumulator merge(FractionAccumulator that) {
+        folded = fractionCalculator.add(folded, that.total());
+        return this;
+    }
+
+    /**
+     * Folds every bucket into a single reduced fraction, keeping the buckets so more fractions can be added.
+     *
+     * @return Exact sum of the fractions added so far.
+     */
+    public Fraction total() {
+        Fraction total = folded;
+
+        for (int slot = 0; slot < denominators.length; slot++) {
+            if (denominators[slot] != EMPTY) {
+                total = fractionCalculator.add(total, Fraction.with(numerators[slot], (long) denominators[slot]));
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * Forgets every fraction added so far.
+     */
+    public void reset() {
+        Arrays.fill(denominators, EMPTY);
+        Arrays.fill(numerators, 0);
+        size = 0;
+        folded = Fraction.with(0, 1);
+    }
+
+    /**
+     * A bucket is flushed into the folded sum when adding {@code value} to it overflows, which happens only if both
+     * operands have the same sign and the sum has the opposite one, or when the sum is {@code Long.MIN_VALUE},
+     * which cannot be negated while reducing.
+     */
+    static boolean mustFlush(long numerator, long value, long sum) {
+        return ((numerator ^ sum) & (value ^ sum)) < 0 || sum == Long.MIN_VALUE;
+    }
+
+    private void fold() {
+        Fraction total = total();
+        reset();
+        folded = total;
+    }
+
+    private void grow() {
+        int[] oldDenominators = denominators;
+        long[] oldNumerators = numerators;
+
+        denominators = new int[oldDenominators.length * 2];
+        numerators = new long[oldNumerators.length * 2];
+
+        for (int i = 0; i < oldDenominators.length; i++) {
+            if (oldDenominators[i] != EMPTY) {
+                int slot = slotOf(oldDenominators[i]);
+                denominators[slot] = oldDenominators[i];
+                numerators[slot] = oldNumerators[i];
+            }
+        }
+    }
+
+    /**
+     * Finds the slot of {@code denominator} with linear probing, or the empty slot where it should be placed.
+     */
+    private int slotOf(int denominator) {
+        int mask = denominators.length - 1;
+        int slot = (denominator * 0x9E3779B9) >>> 16 & mask;
+
+        while (denominators[slot] != EMPTY && denominators[slot] != denominator) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+}
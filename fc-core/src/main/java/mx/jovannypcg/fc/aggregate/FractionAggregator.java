@@ -0,0 +1,158 @@
+package mx.jovannypcg.fc.aggregate;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.BigMixedFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collector;
+
+/**
+ * Computes exact sums and products of many fractions in parallel.
+ *
+ * Folding from left to right makes every intermediate denominator the least common multiple of all the previous
+ * ones, so each step is slower than the one before. Instead, the input is split in halves until chunks of
+ * {@link FractionAggregator#THRESHOLD} fractions are left, every chunk is folded by a task of a
+ * {@link ForkJoinPool}, and partial results are combined pairwise in a balanced tree. Every intermediate result
+ * is reduced by {@link FractionCalculator}, so operands at each level of the tree stay as small as possible.
+ *
+ * Mixed fractions are converted into simple fractions first.
+ */
+public class FractionAggregator {
+    /**
+     * Number of fractions folded sequentially by a single task.
+     */
+    public static final int THRESHOLD = 4096;
+
+    private final FractionCalculator fractionCalculator;
+    private final ForkJoinPool pool;
+
+    public FractionAggregator(FractionCalculator fractionCalculator) {
+        this(fractionCalculator, ForkJoinPool.commonPool());
+    }
+
+    public FractionAggregator(FractionCalculator fractionCalculator, ForkJoinPool pool) {
+        this.fractionCalculator = fractionCalculator;
+        this.pool = pool;
+    }
+
+    /**
+     * Adds all the given fractions.
+     *
+     * @param fractions Fractions to add.
+     * @return Exact sum, 0 if there are no fractions.
+     */
+    public Fraction sum(Fraction... fractions) {
+        return pool.invoke(new Fold(fractionCalculator::add, Fraction.with(0, 1), fractions, 0, fractions.length));
+    }
+
+    /**
+     * Same as {@link FractionAggregator#sum(Fraction...)}.
+     */
+    public Fraction sum(List<? extends Fraction> fractions) {
+        return sum(fractions.toArray(new Fraction[0]));
+    }
+
+    /**
+     * Multiplies all the given fractions.
+     *
+     * @param fractions Fractions to multiply.
+     * @return Exact product, 1 if there are no fractions.
+     */
+    public Fraction product(Fraction... fractions) {
+        return pool.invoke(new Fold(fractionCalculator::multiply, Fraction.with(1, 1),
+                fractions, 0, fractions.length));
+    }
+
+    /**
+     * Same as {@link FractionAggregator#product(Fraction...)}.
+     */
+    public Fraction product(List<? extends Fraction> fractions) {
+        return product(fractions.toArray(new Fraction[0]));
+    }
+
+    /**
+     * Collector adding the fractions of a stream. Parallel streams fold every split on its own and combine
+     * the partial sums, so only one fraction per split is kept in memory.
+     *
+     * @return Collector whose result is the exact sum, 0 for empty streams.
+     */
+    public Collector<Fraction, ?, Fraction> summing() {
+        return folding(fractionCalculator::add, Fraction.with(0, 1));
+    }
+
+    /**
+     * Collector multiplying the fractions of a stream, see {@link FractionAggregator#summing()}.
+     *
+     * @return Collector whose result is the exact product, 1 for empty streams.
+     */
+    public Collector<Fraction, ?, Fraction> multiplying() {
+        return folding(fractionCalculator::multiply, Fraction.with(1, 1));
+    }
+
+    private Collector<Fraction, ?, Fraction> folding(BinaryOperator<Fraction> operation, Fraction identity) {
+        return Collector.<Fraction, Fraction[], Fraction>of(
+                () -> new Fraction[] { identity },
+                (partial, fraction) -> partial[0] = operation.apply(partial[0], simple(fraction)),
+                (partial, other) -> {
+                    partial[0] = operation.apply(partial[0], other[0]);
+                    return partial;
+                },
+                partial -> partial[0],
+                Collector.Characteristics.UNORDERED);
+    }
+
+    private Fraction simple(Fraction fraction) {
+        return fraction instanceof MixedFraction || fraction instanceof BigMixedFraction
+                ? fractionCalculator.reduce(fraction)
+                : fraction;
+    }
+
+    /**
+     * Folds {@code fractions} from {@code from} (inclusive) to {@code to} (exclusive), splitting the range in
+     * halves while it is larger than {@link FractionAggregator#THRESHOLD}.
+     */
+    private class Fold extends RecursiveTask<Fraction> {
+        private static final long serialVersionUID = 1L;
+
+        private final BinaryOperator<Fraction> operation;
+        private final Fraction identity;
+        private final Fraction[] fractions;
+        private final int from;
+        private final int to;
+
+        Fold(BinaryOperator<Fraction> operation, Fraction identity, Fraction[] fractions, int from, int to) {
+            this.operation = operation;
+            this.identity = identity;
+            this.fractions = fractions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Fraction compute() {
+            if (to - from <= THRESHOLD) {
+                Fraction result = identity;
+
+                for (int i = from; i < to; i++) {
+                    result = operation.apply(result, simple(fractions[i]));
+                }
+
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            Fold left = new Fold(operation, identity, fractions, from, middle);
+            Fold right = new Fold(operation, identity, fractions, middle, to);
+
+            left.fork();
+            Fraction rightResult = right.compute();
+
+            return operation.apply(left.join(), rightResult);
+        }
+    }
+}
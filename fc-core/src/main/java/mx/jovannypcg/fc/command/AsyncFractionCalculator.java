@@ -0,0 +1,112 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.exception.CalculatorException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Submits operations to a {@link FractionCalculator} shared by the threads of an {@link Executor}.
+ *
+ * The executor is up to the caller: a fixed pool sized after the available processors suits this CPU-bound
+ * work, while a caller already running on an executor of its own can simply pass that one.
+ */
+public class AsyncFractionCalculator {
+    private final FractionCalculator fractionCalculator;
+    private final Executor executor;
+
+    public AsyncFractionCalculator(FractionCalculator fractionCalculator, Executor executor) {
+        this.fractionCalculator = fractionCalculator;
+        this.executor = executor;
+    }
+
+    /**
+     * Asynchronous counterpart of {@link FractionCalculator#perform(String...)}.
+     *
+     * @param args Operands and operator to execute the fraction operation, or the parts of an expression.
+     * @return Future completed with the result, or completed exceptionally with the {@link CalculatorException}
+     *         thrown by {@link FractionCalculator#perform(String...)}.
+     */
+    public CompletableFuture<Fraction> performAsync(String... args) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fractionCalculator.perform(args);
+            } catch (CalculatorException ce) {
+                throw new CompletionException(ce);
+            }
+        }, executor);
+    }
+
+    /**
+     * Asynchronous counterpart of {@link FractionCalculator#tryPerform(String...)}.
+     *
+     * @param args Operands and operator to execute the fraction operation, or the parts of an expression.
+     * @return Future completed with the result or the reason why it failed.
+     */
+    public CompletableFuture<FractionResult> tryPerformAsync(String... args) {
+        return CompletableFuture.supplyAsync(() -> fractionCalculator.tryPerform(args), executor);
+    }
+
+    /**
+     * Submits every operation at once.
+     *
+     * @param operations Arguments of every operation.
+     * @return Future completed with the results, in the same order as {@code operations}.
+     */
+    public CompletableFuture<List<FractionResult>> performAll(List<String[]> operations) {
+        List<CompletableFuture<FractionResult>> futures = new ArrayList<>(operations.size());
+
+        for (String[] args : operations) {
+            futures.add(tryPerformAsync(args));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            List<FractionResult> results = new ArrayList<>(futures.size());
+
+            for (CompletableFuture<FractionResult> future : futures) {
+                results.add(future.join());
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * Evaluates a stream of operations of any length with a bounded number of them in flight, handing the
+     * results to {@code collector} in the same order as the operations, on the calling thread. Meant for batch
+     * processing, where the output must follow the input.
+     *
+     * @param operations Arguments of every operation.
+     * @param window Maximum number of operations submitted and not yet collected.
+     * @param collector Receives every result, in order.
+     * @throws IllegalArgumentException If {@code window} is not positive.
+     */
+    public void performAll(Iterator<String[]> operations, int window, Consumer<FractionResult> collector) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+
+        Queue<CompletableFuture<FractionResult>> inFlight = new ArrayDeque<>(window);
+
+        while (operations.hasNext()) {
+            if (inFlight.size() == window) {
+                collector.accept(inFlight.remove().join());
+            }
+
+            inFlight.add(tryPerformAsync(operations.next()));
+        }
+
+        while (!inFlight.isEmpty()) {
+            collector.accept(inFlight.remove().join());
+        }
+    }
+}
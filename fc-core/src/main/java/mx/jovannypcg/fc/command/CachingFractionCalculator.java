@@ -0,0 +1,180 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.commons.ConcurrentLruCache;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.metrics.CalculatorMetrics;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+
+/**
+ * {@link FractionCalculator} which remembers the results of the most recent operations with three arguments,
+ * for workloads computing the same operations over and over, such as price tables recomputed on every tick.
+ *
+ * Operations are looked up first by their arguments as written, so a hit skips validation and parsing too.
+ * On a miss the arguments are validated and parsed as usual, so invalid input is reported exactly as without the
+ * cache and is never cached, and the result is looked up again by the parsed operands and the operator. Since
+ * fractions are kept in canonical form, {@code 1/2 + 3} and {@code 2/4 + 3_0/1} share that second entry, which is
+ * also used for operands which are already fractions, see {@link FractionCalculator#tryPerform(char, Fraction,
+ * Fraction)}. Expressions are not cached.
+ *
+ * Safe to share across threads, see {@link ConcurrentLruCache}.
+ */
+public class CachingFractionCalculator extends FractionCalculator {
+    private final ConcurrentLruCache<Object, Fraction> cache;
+
+    /**
+     * @param argumentValidator Validator for the arguments.
+     * @param maximumSize Maximum number of results to remember, must be positive.
+     */
+    public CachingFractionCalculator(ArgumentValidator argumentValidator, int maximumSize) {
+        this(argumentValidator, maximumSize, null);
+    }
+
+    /**
+     * @param argumentValidator Validator for the arguments.
+     * @param maximumSize Maximum number of results to remember, must be positive.
+     * @param metrics Where to record the stages and failures of the calculations, {@code null} to record nothing.
+     */
+    public CachingFractionCalculator(ArgumentValidator argumentValidator, int maximumSize,
+                                     CalculatorMetrics metrics) {
+        super(argumentValidator, metrics);
+        this.cache = new ConcurrentLruCache<>(maximumSize);
+    }
+
+    /**
+     * Creates a {@code FractionCalculator}, caching its results only if {@code cacheSize} is positive.
+     *
+     * @param argumentValidator Validator for the arguments.
+     * @param cacheSize Maximum number of results to remember, 0 to disable the cache.
+     * @return FractionCalculator object.
+     */
+    public static FractionCalculator create(ArgumentValidator argumentValidator, int cacheSize) {
+        return create(argumentValidator, cacheSize, null);
+    }
+
+    /**
+     * Same as {@link CachingFractionCalculator#create(ArgumentValidator, int)}, recording the calculations into
+     * {@code metrics}.
+     *
+     * @param argumentValidator Validator for the arguments.
+     * @param cacheSize Maximum number of results to remember, 0 to disable the cache.
+     * @param metrics Where to record the stages and failures of the calculations, {@code null} to record nothing.
+     * @return FractionCalculator object.
+     */
+    public static FractionCalculator create(ArgumentValidator argumentValidator, int cacheSize,
+                                            CalculatorMetrics metrics) {
+        return cacheSize > 0
+                ? new CachingFractionCalculator(argumentValidator, cacheSize, metrics)
+                : new FractionCalculator(argumentValidator, metrics);
+    }
+
+    /**
+     * Gives access to the size and the hit and miss counters of the cache, to tune its size.
+     *
+     * @return The cache of results.
+     */
+    public ConcurrentLruCache<?, Fraction> getCache() {
+        return cache;
+    }
+
+    @Override
+    protected Fraction performOperation(String... args) throws CalculatorException {
+        Arguments arguments = new Arguments(args);
+        Fraction result = cache.getIfPresent(arguments);
+
+        if (result == null) {
+            result = super.performOperation(args);
+            cache.put(arguments, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    protected FractionResult tryPerformOperation(String... args) {
+        Arguments arguments = new Arguments(args);
+        Fraction cached = cache.getIfPresent(arguments);
+
+        if (cached != null) {
+            return FractionResult.success(cached);
+        }
+
+        FractionResult result = super.tryPerformOperation(args);
+
+        if (result.isSuccess()) {
+            cache.put(arguments, result.getValue());
+        }
+
+        return result;
+    }
+
+    @Override
+    protected Fraction calculate(char operator, Fraction x, Fraction y) {
+        return cache.get(new Operation(operator, x, y), operation -> super.calculate(operator, x, y));
+    }
+
+    /**
+     * Key of the cache for the arguments as written, before they are validated.
+     */
+    private static final class Arguments {
+        private final String x;
+        private final String operator;
+        private final String y;
+
+        Arguments(String... args) {
+            this.x = args[0];
+            this.operator = args[1];
+            this.y = args[2];
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * x.hashCode() + y.hashCode()) * 31 + operator.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            if (this == that) return true;
+            if (!(that instanceof Arguments)) return false;
+
+            Arguments thatArguments = (Arguments) that;
+
+            return this.operator.equals(thatArguments.operator) &&
+                    this.x.equals(thatArguments.x) &&
+                    this.y.equals(thatArguments.y);
+        }
+    }
+
+    /**
+     * Key of the cache for parsed operands, relies on {@link Fraction#equals(Object)} and {@link Fraction#hashCode()}.
+     */
+    private static final class Operation {
+        private final char operator;
+        private final Fraction x;
+        private final Fraction y;
+
+        Operation(char operator, Fraction x, Fraction y) {
+            this.operator = operator;
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * x.hashCode() + y.hashCode()) * 31 + operator;
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            if (this == that) return true;
+            if (!(that instanceof Operation)) return false;
+
+            Operation thatOperation = (Operation) that;
+
+            return this.operator == thatOperation.operator &&
+                    this.x.equals(thatOperation.x) &&
+                    this.y.equals(thatOperation.y);
+        }
+    }
+}
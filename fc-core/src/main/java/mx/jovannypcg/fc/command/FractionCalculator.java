@@ -0,0 +1,561 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.BigFraction;
+import mx.jovannypcg.fc.domain.BigMixedFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.domain.PackedFraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.expression.Expression;
+import mx.jovannypcg.fc.expression.ExpressionParser;
+import mx.jovannypcg.fc.metrics.CalculationEvent;
+import mx.jovannypcg.fc.metrics.CalculatorMetrics;
+import mx.jovannypcg.fc.metrics.OverflowPromotionEvent;
+import mx.jovannypcg.fc.metrics.Stage;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+
+import java.math.BigInteger;
+
+/**
+ * Performs operations over fractions, either given as command line arguments or as {@link Fraction}s.
+ *
+ * Instances hold no mutable state but their optional {@link CalculatorMetrics}, which is thread-safe, so a single
+ * one can be shared by any number of threads, see {@link AsyncFractionCalculator} to submit operations
+ * concurrently.
+ *
+ * Calculations and results promoted to {@link BigFraction} are also reported to JDK Flight Recorder as
+ * {@link CalculationEvent}s and {@link OverflowPromotionEvent}s, which cost nothing unless they are recorded.
+ */
+public class FractionCalculator {
+    private final ArgumentValidator argumentValidator;
+    private final CalculatorMetrics metrics;
+
+    public FractionCalculator(ArgumentValidator argumentValidator) {
+        this(argumentValidator, null);
+    }
+
+    /**
+     * @param argumentValidator Validator for the arguments.
+     * @param metrics Where to record the stages and failures of the calculations, {@code null} to record nothing.
+     */
+    public FractionCalculator(ArgumentValidator argumentValidator, CalculatorMetrics metrics) {
+        this.argumentValidator = argumentValidator;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return Metrics of the calculations, {@code null} if they are not recorded.
+     */
+    public CalculatorMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Execute the fraction operation based on the operator sent as argument.
+     * Operations are executed using simple fractions only, which means that integers or mixed numbers
+     * are first converted into simple fractions.
+     *
+     * The order is: operator1, operator, operator2.
+     *
+     * The arguments are validated by {@link ArgumentValidator}. Any other number of arguments is joined and
+     * evaluated as an expression, see {@link FractionCalculator#evaluate(String)}, and so are three arguments which
+     * are not an operand, an operator and an operand but a valid expression, like {@code 1/2 * (2-1/3)}.
+     *
+     * @param args Operands and operator to execute the fraction operation.
+     * @return Fraction result based on the given operator: +, -, *, /.
+     * @throws CalculatorException If anything goes wrong while validationg the arguments.
+     */
+    public Fraction perform(String... args) throws CalculatorException {
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+
+        try {
+            Fraction result = args.length != ArgumentValidator.ARGUMENTS_ALLOWED
+                    ? evaluate(String.join(" ", args))
+                    : ArgumentValidator.isOperation(args) ? performOperation(args) : performAmbiguous(args);
+
+            event.finish(args, null);
+            return result;
+        } catch (CalculatorException ce) {
+            recordFailure(ce.getErrorCode());
+            event.finish(args, ce.getErrorCode());
+            throw ce;
+        }
+    }
+
+    /**
+     * Exception-free counterpart of {@link FractionCalculator#perform(String...)} for bulk paths, where a share
+     * of the input is expected to be invalid. Invalid input is reported as a failed {@link FractionResult} with an
+     * {@link ErrorCode} and the offending operand, no stack trace is captured and nothing is thrown for operations
+     * with three arguments.
+     *
+     * @param args Operands and operator to execute the fraction operation, or the parts of an expression.
+     * @return The same result as {@link FractionCalculator#perform(String...)}, or the reason why it failed.
+     */
+    public FractionResult tryPerform(String... args) {
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+
+        FractionResult result = args.length != ArgumentValidator.ARGUMENTS_ALLOWED
+                ? tryEvaluate(String.join(" ", args))
+                : ArgumentValidator.isOperation(args) ? tryPerformOperation(args) : tryPerformAmbiguous(args);
+
+        event.finish(args, result.isSuccess() ? null : result.getErrorCode());
+        return result;
+    }
+
+    /**
+     * Three arguments which are not an operand, an operator and an operand may still be an expression, like
+     * {@code 1/2 * (2-1/3)}. If they are not a valid expression either, they are reported as an invalid operation.
+     */
+    private Fraction performAmbiguous(String... args) throws CalculatorException {
+        FractionResult expression = evaluateQuietly(String.join(" ", args));
+        return expression.isSuccess() ? expression.getValue() : performOperation(args);
+    }
+
+    private FractionResult tryPerformAmbiguous(String... args) {
+        FractionResult expression = evaluateQuietly(String.join(" ", args));
+        return expression.isSuccess() ? expression : tryPerformOperation(args);
+    }
+
+    /**
+     * Validates and parses an operand, an operator and an operand, then calculates the result.
+     *
+     * @param args Operands and operator, as given to {@link FractionCalculator#perform(String...)}.
+     * @return Simplified result of the operation.
+     * @throws CalculatorException If the arguments are not valid.
+     */
+    protected Fraction performOperation(String... args) throws CalculatorException {
+        long start = start();
+        argumentValidator.validate(args);
+        start = lap(Stage.VALIDATE, start);
+
+        Fraction x = Fraction.parse(args[0]);
+        Fraction y = Fraction.parse(args[2]);
+        start = lap(Stage.PARSE, start);
+
+        Fraction result = calculate(args[1].charAt(0), x, y);
+        lap(Stage.COMPUTE, start);
+
+        if (result == null) {
+            throw new CalculatorException(ErrorCode.BAD_ORDER_OR_FORMAT, args[1],
+                    "Unknown operator \"" + args[1] + "\"");
+        }
+
+        return result;
+    }
+
+    /**
+     * Exception-free counterpart of {@link FractionCalculator#performOperation(String...)}.
+     *
+     * @param args Operands and operator, as given to {@link FractionCalculator#tryPerform(String...)}.
+     * @return Simplified result of the operation, or the reason why it failed.
+     */
+    protected FractionResult tryPerformOperation(String... args) {
+        long start = start();
+        CalculatorException failure = argumentValidator.check(args);
+        if (failure != null) {
+            return failed(FractionResult.failure(failure));
+        }
+        start = lap(Stage.VALIDATE, start);
+
+        FractionResult x = Fraction.tryParse(args[0]);
+        if (!x.isSuccess()) {
+            return failed(x);
+        }
+
+        FractionResult y = Fraction.tryParse(args[2]);
+        if (!y.isSuccess()) {
+            return failed(y);
+        }
+        start = lap(Stage.PARSE, start);
+
+        Fraction result = calculate(args[1].charAt(0), x.getValue(), y.getValue());
+        lap(Stage.COMPUTE, start);
+
+        return result != null
+                ? FractionResult.success(result)
+                : failed(FractionResult.failure(ErrorCode.BAD_ORDER_OR_FORMAT, args[1], Message.badOrderOrFormat()));
+    }
+
+    /**
+     * Counterpart of {@link FractionCalculator#tryPerform(String...)} for operands which are already fractions,
+     * such as the ones read by {@link mx.jovannypcg.fc.io.BinaryFractionReader}. Operands are checked the same as
+     * parsed ones, so an operand with 0 as denominator is a failure, and mixed fractions are reduced into simple
+     * fractions first.
+     *
+     * @param operator One of {@code +}, {@code -}, {@code *} or {@code /}.
+     * @param x First operand for the operation.
+     * @param y Second operand for the operation.
+     * @return Simplified result of the operation, or the reason why it failed.
+     */
+    public FractionResult tryPerform(char operator, Fraction x, Fraction y) {
+        Fraction zeroAsDenominator = x.hasZeroAsDenominator() ? x : y.hasZeroAsDenominator() ? y : null;
+
+        if (zeroAsDenominator != null) {
+            String operand = zeroAsDenominator.toString();
+            return failed(FractionResult.failure(ErrorCode.ZERO_AS_DENOMINATOR, operand,
+                    Message.zeroAsDenominatorFor(operand)));
+        }
+
+        long start = start();
+        Fraction result = calculate(operator, simple(x), simple(y));
+        lap(Stage.COMPUTE, start);
+
+        return result != null
+                ? FractionResult.success(result)
+                : failed(FractionResult.failure(ErrorCode.BAD_ORDER_OR_FORMAT, String.valueOf(operator),
+                        Message.badOrderOrFormat()));
+    }
+
+    /**
+     * Applies {@code operator} to {@code x} and {@code y} and simplifies the result, unless its denominator is 0.
+     *
+     * @return The result, {@code null} if the operator is unknown.
+     */
+    protected Fraction calculate(char operator, Fraction x, Fraction y) {
+        Fraction simpleResult;
+
+        switch (operator) {
+            case '+':
+                simpleResult = add(x, y);
+                break;
+            case '-':
+                simpleResult = subtract(x, y);
+                break;
+            case '*':
+                simpleResult = multiply(x, y);
+                break;
+            case '/':
+                simpleResult = divide(x, y);
+                break;
+            default:
+                return null;
+        }
+
+        if (simpleResult.hasZeroAsDenominator()) {
+            return simpleResult;
+        }
+
+        long start = start();
+        Fraction simplified = simplify(simpleResult);
+        lap(Stage.SIMPLIFY, start);
+
+        return simplified;
+    }
+
+    /**
+     * Evaluates an expression with any number of operands, operators and parentheses, such as
+     * {@code 1/2 + 3_3/4 * (2 - 1/3)}. Multiplication and division take precedence over addition and subtraction.
+     *
+     * Use {@link FractionCalculator#compile(String)} instead to parse the expression only once. Names are not
+     * accepted here, since there is nothing to bind them to, and are reported as malformed operands.
+     *
+     * @param expression Expression to evaluate.
+     * @return Simplified result of the expression.
+     * @throws CalculatorException If the expression is not valid or divides by zero.
+     */
+    public Fraction evaluate(String expression) throws CalculatorException {
+        long start = start();
+        Expression compiled = compile(expression);
+
+        if (!compiled.getVariables().isEmpty()) {
+            String name = compiled.getVariables().get(0);
+            throw CalculatorException.withoutStackTrace(ErrorCode.MALFORMED_OPERAND, name, Message.parsingError(name));
+        }
+
+        Fraction result = simplify(compiled.evaluate());
+        lap(Stage.EVALUATE, start);
+
+        return result;
+    }
+
+    /**
+     * Exception-free counterpart of {@link FractionCalculator#evaluate(String)}. Syntax errors are created without
+     * a stack trace by {@link ExpressionParser}.
+     *
+     * @param expression Expression to evaluate.
+     * @return Simplified result of the expression, or the reason why it cannot be evaluated.
+     */
+    public FractionResult tryEvaluate(String expression) {
+        FractionResult result = evaluateQuietly(expression);
+        return result.isSuccess() ? result : failed(result);
+    }
+
+    /**
+     * Parses an expression into an {@link Expression} which can be evaluated any number of times.
+     * Sub-expressions made of constants only are computed once, while compiling.
+     *
+     * The expression may be a template with variables, like {@code price * 3_1/4 - discount}, whose values are
+     * bound on every evaluation, so the template is parsed only once no matter how many rows are evaluated.
+     *
+     * @param expression Expression to compile.
+     * @return The compiled expression.
+     * @throws CalculatorException If the expression is not valid or divides by zero.
+     */
+    public Expression compile(String expression) throws CalculatorException {
+        return new ExpressionParser(this).parse(expression);
+    }
+
+    /**
+     * Add {@code x} to {@code y}, using the least common multiple of the denominators instead of their product.
+     *
+     * Operations on {@code int} fractions are computed with {@code long}s, which cannot overflow, and the result
+     * is promoted to a {@link BigFraction} only if it does not fit into an {@code int} once reduced.
+     * Operations involving a {@link BigFraction} are computed with {@link BigInteger}s.
+     *
+     * @param x First operand for the operation.
+     * @param y Second operand for the operation.
+     * @return Result of the Add operation.
+     */
+    public Fraction add(Fraction x, Fraction y) {
+        if (isBig(x, y)) {
+            BigInteger gcf = nonZero(x.getBigDenominator().gcd(y.getBigDenominator()));
+            BigInteger xFactor = y.getBigDenominator().divide(gcf);
+            BigInteger yFactor = x.getBigDenominator().divide(gcf);
+
+            return Fraction.with(x.getBigNumerator().multiply(xFactor).add(y.getBigNumerator().multiply(yFactor)),
+                    x.getBigDenominator().multiply(xFactor));
+        }
+
+        long gcf = nonZero(PackedFraction.greatestCommonFactor(x.getDenominator(), y.getDenominator()));
+        long xFactor = y.getDenominator() / gcf;
+        long yFactor = x.getDenominator() / gcf;
+
+        return promoted('+', x, y,
+                Fraction.with(x.getNumerator() * xFactor + y.getNumerator() * yFactor, x.getDenominator() * xFactor));
+    }
+
+    /**
+     * Subtract {@code y} from {@code x}, using the least common multiple of the denominators instead of their product.
+     * Overflow is handled as in {@link FractionCalculator#add(Fraction, Fraction)}.
+     *
+     * @param x First operand for the operation.
+     * @param y Second operand for the operation.
+     * @return Result of the Subtract operation.
+     */
+    public Fraction subtract(Fraction x, Fraction y) {
+        if (isBig(x, y)) {
+            BigInteger gcf = nonZero(x.getBigDenominator().gcd(y.getBigDenominator()));
+            BigInteger xFactor = y.getBigDenominator().divide(gcf);
+            BigInteger yFactor = x.getBigDenominator().divide(gcf);
+
+            return Fraction.with(x.getBigNumerator().multiply(xFactor).subtract(y.getBigNumerator().multiply(yFactor)),
+                    x.getBigDenominator().multiply(xFactor));
+        }
+
+        long gcf = nonZero(PackedFraction.greatestCommonFactor(x.getDenominator(), y.getDenominator()));
+        long xFactor = y.getDenominator() / gcf;
+        long yFactor = x.getDenominator() / gcf;
+
+        return promoted('-', x, y,
+                Fraction.with(x.getNumerator() * xFactor - y.getNumerator() * yFactor, x.getDenominator() * xFactor));
+    }
+
+    /**
+     * Multiply {@code x} by {@code y}. Each numerator is reduced against the opposite denominator before multiplying,
+     * so the result is already reduced when the operands are. Overflow is handled as in
+     * {@link FractionCalculator#add(Fraction, Fraction)}.
+     *
+     * @param x First operand for the operation.
+     * @param y Second operand for the operation.
+     * @return Result of the Multiply operation.
+     */
+    public Fraction multiply(Fraction x, Fraction y) {
+        if (isBig(x, y)) {
+            return crossMultiply(x.getBigNumerator(), x.getBigDenominator(), y.getBigNumerator(), y.getBigDenominator());
+        }
+
+        return promoted('*', x, y,
+                crossMultiply(x.getNumerator(), x.getDenominator(), y.getNumerator(), y.getDenominator()));
+    }
+
+    /**
+     * Divide {@code x} by {@code y}, multiplying {@code x} by the reciprocal of {@code y} with the same
+     * cross-reduction as {@link FractionCalculator#multiply(Fraction, Fraction)}. The sign is kept in the numerator.
+     *
+     * @param x First operand for the operation.
+     * @param y Second operand for the operation.
+     * @return Result of the Divide operation.
+     */
+    public Fraction divide(Fraction x, Fraction y) {
+        if (isBig(x, y)) {
+            boolean negativeDivisor = y.getBigNumerator().signum() < 0;
+
+            return crossMultiply(x.getBigNumerator(), x.getBigDenominator(),
+                    negativeDivisor ? y.getBigDenominator().negate() : y.getBigDenominator(),
+                    y.getBigNumerator().abs());
+        }
+
+        long yNumerator = y.getNumerator();
+        long yDenominator = y.getDenominator();
+
+        return promoted('/', x, y, crossMultiply(x.getNumerator(), x.getDenominator(),
+                yNumerator < 0 ? -yDenominator : yDenominator,
+                Math.abs(yNumerator)));
+    }
+
+    /**
+     * Returns the greatest common factor for {@code a} and {@code b} using the
+     * { @link https://en.wikipedia.org/wiki/Binary_GCD_algorithm Binary GCD Algorithm}, see
+     * {@link PackedFraction#greatestCommonFactor(long, long)}. Necessary to simplify fractions.
+     *
+     * @return Greatest common factor for {@code a} and {@code b}.
+     */
+    protected int greatestCommonFactor(int a, int b) {
+        return (int) PackedFraction.greatestCommonFactor(a, b);
+    }
+
+    /**
+     * Gets a simplified version of the given fraction. The result can be a {@link Fraction} or a {@link MixedFraction},
+     * according to the rules to simplify fractions. For instance, if {@code fraction} is improper, then a
+     * mixed fraction is return, otherwise the numerator and denomitor of the proper fraction are divided by their
+     * greatest common factor. Results which do not fit into an {@code int} are returned as {@link BigFraction}
+     * or {@link BigMixedFraction}.
+     *
+     * @param fraction Fraction to simplify.
+     * @return Simplified version of the incoming fraction.
+     */
+    protected Fraction simplify(Fraction fraction) {
+        Fraction simplified = reduce(fraction);
+
+        if (!simplified.isImproper()) {
+            return simplified;
+        }
+
+        return simplified instanceof BigFraction
+                ? BigMixedFraction.parse((BigFraction) simplified)
+                : MixedFraction.parse(simplified);
+    }
+
+    /**
+     * Divides the numerator and denominator of a simple fraction by their greatest common factor, keeping the sign
+     * in the numerator. Unlike {@link FractionCalculator#simplify(Fraction)}, the result is never a
+     * {@link MixedFraction}, so it can be used as operand of further operations.
+     *
+     * Mixed fractions are converted back into simple fractions first.
+     *
+     * @param fraction Fraction to reduce.
+     * @return Reduced version of the incoming fraction.
+     */
+    public Fraction reduce(Fraction fraction) {
+        if (fraction instanceof BigMixedFraction) {
+            BigMixedFraction mixed = (BigMixedFraction) fraction;
+            BigInteger wholeNumber = mixed.getBigWholeNumber();
+            BigInteger numerator = wholeNumber.signum() < 0 ? mixed.getBigNumerator().negate() : mixed.getBigNumerator();
+
+            return reduce(Fraction.with(wholeNumber.multiply(mixed.getBigDenominator()).add(numerator),
+                    mixed.getBigDenominator()));
+        }
+
+        if (fraction instanceof MixedFraction) {
+            MixedFraction mixed = (MixedFraction) fraction;
+            long wholeNumber = mixed.getWholeNumber();
+            long numerator = wholeNumber < 0 ? -(long) mixed.getNumerator() : mixed.getNumerator();
+
+            return reduce(wholeNumber * mixed.getDenominator() + numerator, mixed.getDenominator());
+        }
+
+        return fraction instanceof BigFraction
+                ? ((BigFraction) fraction).reduce()
+                : reduce(fraction.getNumerator(), fraction.getDenominator());
+    }
+
+    /**
+     * Computed with {@code long}s, so even {@code Integer.MIN_VALUE} can be negated.
+     */
+    private Fraction reduce(long numerator, long denominator) {
+        long gcf = PackedFraction.greatestCommonFactor(numerator, denominator);
+
+        if (gcf == 0) {
+            return Fraction.with(numerator, denominator); // 0/0
+        }
+
+        if (denominator < 0) {
+            gcf = -gcf;
+        }
+
+        return Fraction.with(numerator / gcf, denominator / gcf);
+    }
+
+    /**
+     * Computes {@code (a / b) * (c / d)}, reducing {@code a} against {@code d} and {@code c} against {@code b} first.
+     */
+    private Fraction crossMultiply(long a, long b, long c, long d) {
+        long adGcf = nonZero(PackedFraction.greatestCommonFactor(a, d));
+        long cbGcf = nonZero(PackedFraction.greatestCommonFactor(c, b));
+
+        return Fraction.with((a / adGcf) * (c / cbGcf), (b / cbGcf) * (d / adGcf));
+    }
+
+    private Fraction crossMultiply(BigInteger a, BigInteger b, BigInteger c, BigInteger d) {
+        BigInteger adGcf = nonZero(a.gcd(d));
+        BigInteger cbGcf = nonZero(c.gcd(b));
+
+        return Fraction.with(a.divide(adGcf).multiply(c.divide(cbGcf)), b.divide(cbGcf).multiply(d.divide(adGcf)));
+    }
+
+    /**
+     * Starts timing an operation, see {@link CalculatorMetrics#start()}.
+     */
+    private long start() {
+        return metrics != null ? metrics.start() : CalculatorMetrics.NOT_TIMED;
+    }
+
+    private long lap(Stage stage, long start) {
+        return metrics != null ? metrics.lap(stage, start) : start;
+    }
+
+    private void recordFailure(ErrorCode errorCode) {
+        if (metrics != null) {
+            metrics.recordFailure(errorCode);
+        }
+    }
+
+    /**
+     * Same as {@link FractionCalculator#tryEvaluate(String)}, without recording the failure.
+     */
+    private FractionResult evaluateQuietly(String expression) {
+        try {
+            return FractionResult.success(evaluate(expression));
+        } catch (CalculatorException ce) {
+            return FractionResult.failure(ce);
+        }
+    }
+
+    private FractionResult failed(FractionResult failure) {
+        recordFailure(failure.getErrorCode());
+        return failure;
+    }
+
+    /**
+     * Emits an {@link OverflowPromotionEvent} if the result of an operation on {@code int} fractions does not fit
+     * into an {@code int}.
+     */
+    private Fraction promoted(char operator, Fraction x, Fraction y, Fraction result) {
+        if (result instanceof BigFraction) {
+            OverflowPromotionEvent.emit(operator, x, y, result);
+        }
+
+        return result;
+    }
+
+    private Fraction simple(Fraction fraction) {
+        return fraction instanceof MixedFraction || fraction instanceof BigMixedFraction ? reduce(fraction) : fraction;
+    }
+
+    private long nonZero(long gcf) {
+        return gcf == 0 ? 1 : gcf;
+    }
+
+    private BigInteger nonZero(BigInteger gcf) {
+        return gcf.signum() == 0 ? BigInteger.ONE : gcf;
+    }
+
+    private boolean isBig(Fraction x, Fraction y) {
+        return x instanceof BigFraction || y instanceof BigFraction;
+    }
+}
@@ -0,0 +1,179 @@
+package mx.jovannypcg.fc.commons;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache which evicts the least recently used entries, safe to share across threads.
+ *
+ * Entries are spread over segments by hash, each one an access-ordered {@link LinkedHashMap} guarded by its own
+ * lock, so threads looking up different keys rarely contend. Eviction is per segment, which approximates a global
+ * LRU order as long as keys are evenly distributed.
+ *
+ * @param <K> Type of the keys, which must implement {@code equals} and {@code hashCode}.
+ * @param <V> Type of the values.
+ */
+public class ConcurrentLruCache<K, V> {
+    private static final int SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int maximumSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maximumSize Maximum number of entries, must be positive.
+     */
+    public ConcurrentLruCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maximumSize);
+        }
+
+        int segmentCount = Math.min(SEGMENTS, Integer.highestOneBit(maximumSize));
+
+        this.maximumSize = maximumSize;
+        this.segments = newSegments(segmentCount);
+
+        // segment sizes add up to exactly maximumSize
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Gets the value cached for {@code key}, computing and caching it on a miss. {@code null} values are
+     * returned but not cached. The computation runs without holding any lock, so two threads missing the
+     * same key at once might both compute it.
+     *
+     * @param key Key to look up.
+     * @param compute Function computing the value for {@code key}.
+     * @return Cached or computed value.
+     */
+    public V get(K key, Function<? super K, ? extends V> compute) {
+        V value = getIfPresent(key);
+
+        if (value == null) {
+            value = compute.apply(key);
+            put(key, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Gets the value cached for {@code key} without computing it, counted as a hit or a miss like
+     * {@link ConcurrentLruCache#get(Object, Function)}. Meant for values whose computation may fail, which are
+     * then cached through {@link ConcurrentLruCache#put(Object, Object)} only if it succeeds.
+     *
+     * @return Cached value, {@code null} if there is none.
+     */
+    public V getIfPresent(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        V value;
+
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+
+        return value;
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, evicting the least recently used entry of its segment if it is full.
+     * {@code null} values are not cached.
+     */
+    public void put(K key, V value) {
+        if (value == null) {
+            return;
+        }
+
+        Segment<K, V> segment = segmentFor(key);
+
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return Number of lookups answered from the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of lookups which had to compute the value.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes every entry and resets the counters.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + size() + "/" + maximumSize + ", hits=" + getHits() + ", misses=" + getMisses();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Segment<K, V>[] newSegments(int count) {
+        return (Segment<K, V>[]) new Segment<?, ?>[count];
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static class Segment<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        Segment(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maximumSize;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package mx.jovannypcg.fc.commons;
+
+/**
+ * Provides info, warning or error messages to be displayed to the user of the program.
+ */
+public class Message {
+    public static String usage(String failureReason) {
+        return  "Failure: " + failureReason + "\n" +
+                "Usage: java -jar fc.jar <operand1> <operator> <operand2>\n" +
+                "       java -jar fc.jar <expression>\n" +
+                "       java -jar fc.jar --batch [file|-]\n" +
+                "       java -jar fc.jar --parallel-batch <file> [threads]\n" +
+                "       java -jar fc.jar --binary-batch [file|-]\n" +
+                "       java -jar fc.jar --server [port]\n" +
+                "Example: java -jar fc.jar 1/2 * 3_3/4\n" +
+                "Operators:\n" +
+                "        \\*: multiply\n" +
+                "        /: divide\n" +
+                "        +: add\n" +
+                "        -: subtract\n" +
+                "Operand format: (sign)<whole_number>(_<numerator>/<denominator>)(numerator/denominator)\n" +
+                "        Examples: -2, 3, 1/2, -7/9, 4_1/2, -5_7/4\n" +
+                "Expression format: operands and operators, optionally grouped with parentheses\n" +
+                "        Example: \"1/2 + 3_3/4 * (2 - 1/3)\"";
+    }
+
+    public static String badOrderOrFormat() {
+        return  "Verify either the order of the operator and operands or the format of the operands";
+    }
+
+    public static String badArgumentSize(int expectedArguments) {
+        return "There must be exactly " + expectedArguments + " arguments";
+    }
+
+    public static String parsingError(String operand) {
+        return "Error while parsing operand " + operand;
+    }
+
+    public static String resultOutput(String[] args, String result) {
+        StringBuilder sb = new StringBuilder();
+
+        for (String arg : args) {
+            sb.append(arg).append(" ");
+        }
+
+        sb.append("= ").append(result);
+        return sb.toString();
+    }
+
+    public static String lineFailure(long lineNumber, String failureReason) {
+        return "Failure at line " + lineNumber + ": " + failureReason;
+    }
+
+    public static String unreadableInput(String source) {
+        return "Unable to read input from " + source;
+    }
+
+    public static String corruptedInput(String source, String reason) {
+        return "Corrupted binary input from " + source + ": " + reason;
+    }
+
+    public static String badThreadCount(String threads) {
+        return "Invalid number of threads " + threads;
+    }
+
+    public static String badPort(String port) {
+        return "Invalid port " + port;
+    }
+
+    public static String unableToListen(int port) {
+        return "Unable to listen on port " + port;
+    }
+
+    public static String listening(int port) {
+        return "Listening on localhost:" + port;
+    }
+
+    public static String lineTooLong(int maximumLength) {
+        return "Line longer than " + maximumLength + " characters";
+    }
+
+    public static String tooManyConnections(int maximumConnections) {
+        return "Too many connections, at most " + maximumConnections + " are served at once";
+    }
+
+    public static String emptyExpression() {
+        return "There is nothing to calculate";
+    }
+
+    public static String unexpectedCharacter(String expression, int position) {
+        return "Unexpected character at position " + (position + 1) + " of expression " + expression;
+    }
+
+    public static String unexpectedEnd(String expression) {
+        return "Unexpected end of expression " + expression;
+    }
+
+    public static String divisionByZero() {
+        return "Division by zero";
+    }
+
+    public static String zeroAsDenominatorFor(String operand) {
+        return "Improper format for operand " + operand + ", 0 in the denominator";
+    }
+
+    public static String unboundVariable(String name) {
+        return "No value bound to variable " + name;
+    }
+
+    public static String unknownVariable(String name, String expression) {
+        return "Unknown variable " + name + " for expression " + expression;
+    }
+
+    public static String wrongNumberOfValues(int expected, int actual) {
+        return "Expected " + expected + " values but got " + actual;
+    }
+}
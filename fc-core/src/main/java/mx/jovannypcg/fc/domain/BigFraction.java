@@ -0,0 +1,177 @@
+package mx.jovannypcg.fc.domain;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.parser.OperandScanner;
+
+import java.math.BigInteger;
+
+/**
+ * Represents a simple fraction whose numerator or denominator do not fit into an {@code int}.
+ *
+ * Operations stay on {@code int}s as long as possible, a {@code BigFraction} is created only when a result
+ * overflows, see {@link Fraction#with(long, long)} and {@link Fraction#with(BigInteger, BigInteger)}.
+ * Like {@link Fraction}, it is immutable and kept in canonical form.
+ */
+public class BigFraction extends Fraction {
+    final BigInteger bigNumerator;
+    final BigInteger bigDenominator;
+
+    protected BigFraction(BigInteger numerator, BigInteger denominator) {
+        super(0, 1); // int values are never used
+        this.bigNumerator = numerator;
+        this.bigDenominator = denominator;
+    }
+
+    /**
+     * Factory method to create a {@code BigFraction} reduced to its canonical form, no matter if its values
+     * fit into an {@code int}.
+     *
+     * @param numerator The numerator.
+     * @param denominator The denominator.
+     * @return BigFraction object.
+     */
+    public static BigFraction with(BigInteger numerator, BigInteger denominator) {
+        BigInteger gcf = numerator.gcd(denominator);
+
+        if (denominator.signum() < 0) {
+            gcf = gcf.negate();
+        }
+
+        if (gcf.signum() != 0 && !BigInteger.ONE.equals(gcf)) {
+            numerator = numerator.divide(gcf);
+            denominator = denominator.divide(gcf);
+        }
+
+        return new BigFraction(numerator, denominator);
+    }
+
+    /**
+     * Parses an operand whose numbers might not fit into an {@code int}. Follows the same rules as
+     * {@link Fraction#parse(String)}, but relies on {@link BigInteger} so it is considerably slower.
+     *
+     * @param operand String representing an integer, a simple fraction or a mixed fraction.
+     * @return Fraction object parsed from the given string, demoted to {@code int}s if its values fit.
+     * @throws CalculatorException If the operand is not valid.
+     */
+    public static Fraction parse(String operand) throws CalculatorException {
+        Fraction fraction = parseOrNull(operand);
+
+        if (fraction == null) {
+            throw new CalculatorException(ErrorCode.MALFORMED_OPERAND, operand, Message.parsingError(operand));
+        }
+
+        return fraction;
+    }
+
+    /**
+     * Same as {@link BigFraction#parse(String)}, but returns {@code null} if the operand is not valid.
+     */
+    static Fraction parseOrNull(String operand) {
+        int slash = operand.indexOf('/');
+        int underscore = operand.indexOf('_');
+
+        switch (OperandScanner.shapeOf(operand)) {
+            case OperandScanner.INTEGER:
+                return Fraction.with(new BigInteger(operand), BigInteger.ONE);
+            case OperandScanner.SIMPLE_FRACTION:
+                return Fraction.with(new BigInteger(operand.substring(0, slash)),
+                        new BigInteger(operand.substring(slash + 1)));
+            case OperandScanner.MIXED_FRACTION:
+                BigInteger wholeNumber = new BigInteger(operand.substring(0, underscore));
+                BigInteger numerator = new BigInteger(operand.substring(underscore + 1, slash));
+                BigInteger denominator = new BigInteger(operand.substring(slash + 1));
+
+                return Fraction.with(wholeNumber.multiply(denominator).add(numerator), denominator);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Demotes this fraction to {@code int}s if its values fit. Since every {@code BigFraction} is already
+     * in canonical form, nothing else needs to be done.
+     *
+     * @return This fraction, or a {@link Fraction} with the same values if they fit into an {@code int}.
+     */
+    public Fraction reduce() {
+        if (bigNumerator.bitLength() < Integer.SIZE && bigDenominator.bitLength() < Integer.SIZE) {
+            return Fraction.canonical(bigNumerator.intValue(), bigDenominator.intValue());
+        }
+
+        return this;
+    }
+
+    /**
+     * @throws ArithmeticException If the numerator does not fit into an {@code int}.
+     */
+    @Override
+    public int getNumerator() {
+        return bigNumerator.intValueExact();
+    }
+
+    /**
+     * @throws ArithmeticException If the denominator does not fit into an {@code int}.
+     */
+    @Override
+    public int getDenominator() {
+        return bigDenominator.intValueExact();
+    }
+
+    @Override
+    public BigInteger getBigNumerator() {
+        return bigNumerator;
+    }
+
+    @Override
+    public BigInteger getBigDenominator() {
+        return bigDenominator;
+    }
+
+    /**
+     * @throws ArithmeticException If the numerator or the denominator do not fit into an {@code int}.
+     */
+    @Override
+    public long toPacked() {
+        return PackedFraction.pack(getNumerator(), getDenominator());
+    }
+
+    @Override
+    public boolean hasZeroAsDenominator() {
+        return bigDenominator.signum() == 0;
+    }
+
+    @Override
+    public boolean isZero() {
+        return bigNumerator.signum() == 0;
+    }
+
+    @Override
+    public boolean isImproper() {
+        return bigNumerator.abs().compareTo(bigDenominator) > 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * bigNumerator.hashCode() + bigDenominator.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+
+        BigFraction thatFraction = (BigFraction) that;
+
+        return this.bigNumerator.equals(thatFraction.bigNumerator) &&
+                this.bigDenominator.equals(thatFraction.bigDenominator);
+    }
+
+    @Override
+    public String toString() {
+        return BigInteger.ONE.equals(bigDenominator)
+                ? bigNumerator.toString()
+                : bigNumerator + "/" + bigDenominator;
+    }
+}
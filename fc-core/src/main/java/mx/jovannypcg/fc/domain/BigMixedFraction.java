@@ -0,0 +1,95 @@
+package mx.jovannypcg.fc.domain;
+
+import java.math.BigInteger;
+
+/**
+ * Represents a mixed fraction whose values do not fit into an {@code int}, the counterpart of {@link MixedFraction}.
+ */
+public class BigMixedFraction extends BigFraction {
+    private final BigInteger wholeNumber;
+
+    private BigMixedFraction(BigInteger wholeNumber, BigInteger numerator, BigInteger denominator) {
+        super(numerator, denominator);
+        this.wholeNumber = wholeNumber;
+    }
+
+    /**
+     * Factory method to create a {@code BigMixedFraction}, reducing its fractional part.
+     *
+     * @param wholeNumber The whole number.
+     * @param numerator The numerator.
+     * @param denominator The denominator.
+     * @return BigMixedFraction object.
+     */
+    public static BigMixedFraction with(BigInteger wholeNumber, BigInteger numerator, BigInteger denominator) {
+        BigInteger gcf = numerator.gcd(denominator);
+
+        if (gcf.compareTo(BigInteger.ONE) > 0) {
+            numerator = numerator.divide(gcf);
+            denominator = denominator.divide(gcf);
+        }
+
+        return new BigMixedFraction(wholeNumber, numerator, denominator);
+    }
+
+    public BigInteger getBigWholeNumber() {
+        return wholeNumber;
+    }
+
+    /**
+     * Given a {@link BigFraction}, this method applies the same rules as {@link MixedFraction#parse(Fraction)}
+     * to convert a simple fraction into a {@code BigMixedFraction}.
+     *
+     * @param fraction BigFraction object to be parsed.
+     * @return BigMixedFraction representation.
+     */
+    public static BigMixedFraction parse(BigFraction fraction) {
+        if (!fraction.isImproper()) {
+            return new BigMixedFraction(BigInteger.ZERO, fraction.bigNumerator, fraction.bigDenominator);
+        }
+
+        BigInteger[] quotientAndRemainder = fraction.bigNumerator.divideAndRemainder(fraction.bigDenominator);
+
+        // whole number keeps the negative sign
+        return new BigMixedFraction(quotientAndRemainder[0],
+                quotientAndRemainder[1].abs(),
+                fraction.bigDenominator.abs());
+    }
+
+    /**
+     * @throws ArithmeticException If the improper fraction does not fit into an {@code int}.
+     */
+    @Override
+    public long toPacked() {
+        return PackedFraction.pack(valueNumerator().intValueExact(), getDenominator());
+    }
+
+    @Override
+    BigInteger valueNumerator() {
+        BigInteger fractionalNumerator = wholeNumber.signum() < 0 ? bigNumerator.negate() : bigNumerator;
+        return wholeNumber.multiply(bigDenominator).add(fractionalNumerator);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + wholeNumber.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (!super.equals(that)) return false;
+
+        return this.wholeNumber.equals(((BigMixedFraction) that).wholeNumber);
+    }
+
+    @Override
+    public String toString() {
+        if (wholeNumber.signum() == 0) {
+            return super.toString(); // Only numerator and denominator
+        } else if (bigNumerator.signum() == 0) {
+            return wholeNumber.toString(); // Integer without fraction
+        } else {
+            return wholeNumber + "_" + super.toString();
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package mx.jovannypcg.fc.domain;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.metrics.ParseFailureEvent;
+import mx.jovannypcg.fc.parser.OperandScanner;
+
+import java.math.BigInteger;
+
+/**
+ * Represents a simple fraction with numerator and denominator.
+ * Provides methos to parse strings into {@code Fraction}s.
+ *
+ * Numerator and denominator are {@code int}s, values which do not fit are represented by {@link BigFraction}.
+ *
+ * Fractions are immutable values in canonical form: every factory reduces them, so numerator and denominator
+ * have no common factor other than 1 and the sign is kept by the numerator. Thus 2/4 equals 1/2, and fractions
+ * can be used as keys of hash-based collections directly. Fractions with 0 as denominator are kept as
+ * 1/0, -1/0 or 0/0.
+ *
+ * Like {@link Integer#valueOf(int)}, factories return shared instances for fractions with small numerators and
+ * denominators, see {@link Fraction#CACHE_NUMERATOR_LIMIT} and {@link Fraction#CACHE_DENOMINATOR_LIMIT}.
+ */
+public class Fraction implements Comparable<Fraction> {
+    /**
+     * Fractions whose numerator is between {@code -CACHE_NUMERATOR_LIMIT} and {@code CACHE_NUMERATOR_LIMIT}
+     * are cached, as long as their denominator is cached too.
+     */
+    public static final int CACHE_NUMERATOR_LIMIT = 128;
+
+    /**
+     * Fractions whose denominator is between 1 and {@code CACHE_DENOMINATOR_LIMIT} are cached, which covers
+     * halves, quarters, eighths and sixteenths.
+     */
+    public static final int CACHE_DENOMINATOR_LIMIT = 16;
+
+    /**
+     * Filled lazily, a racing thread might create a duplicate which is harmless since fractions are immutable.
+     */
+    private static final Fraction[] CACHE = new Fraction[(2 * CACHE_NUMERATOR_LIMIT + 1) * CACHE_DENOMINATOR_LIMIT];
+
+    final int numerator;
+    final int denominator;
+
+    protected Fraction(int numerator, int denominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * Returns the fraction for values already in canonical form, shared from the cache if they are small enough.
+     */
+    static Fraction canonical(int numerator, int denominator) {
+        if (numerator < -CACHE_NUMERATOR_LIMIT || numerator > CACHE_NUMERATOR_LIMIT
+                || denominator < 1 || denominator > CACHE_DENOMINATOR_LIMIT) {
+            return new Fraction(numerator, denominator);
+        }
+
+        int index = (numerator + CACHE_NUMERATOR_LIMIT) * CACHE_DENOMINATOR_LIMIT + denominator - 1;
+        Fraction fraction = CACHE[index];
+
+        if (fraction == null) {
+            fraction = new Fraction(numerator, denominator);
+            CACHE[index] = fraction;
+        }
+
+        return fraction;
+    }
+
+    /**
+     * Factory method to create a {@code Fraction}, reduced to its canonical form.
+     *
+     * @param numerator The numerator.
+     * @param denominator The denominator.
+     * @return Fraction object, a {@link BigFraction} only for {@code Integer.MIN_VALUE} over a negative value.
+     */
+    public static Fraction with(int numerator, int denominator) {
+        return with((long) numerator, (long) denominator);
+    }
+
+    /**
+     * Factory method to create a {@code Fraction} from the result of an operation computed with {@code long}s.
+     * The fraction is reduced to its canonical form and, if its values still do not fit into an {@code int},
+     * promoted to a {@link BigFraction}.
+     *
+     * @param numerator The numerator.
+     * @param denominator The denominator.
+     * @return Fraction object, a {@link BigFraction} if the reduced values do not fit into an {@code int}.
+     */
+    public static Fraction with(long numerator, long denominator) {
+        if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+            // cannot be negated, neither by the sign of the denominator nor by a negative factor
+            return with(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        }
+
+        long gcf = PackedFraction.greatestCommonFactor(numerator, denominator);
+
+        if (denominator < 0) {
+            gcf = -gcf;
+        }
+
+        if (gcf != 0 && gcf != 1) {
+            numerator /= gcf;
+            denominator /= gcf;
+        }
+
+        if (fitsInInt(numerator) && fitsInInt(denominator)) {
+            return canonical((int) numerator, (int) denominator);
+        }
+
+        return BigFraction.with(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    /**
+     * Factory method to create a {@code Fraction} from the result of an operation computed with {@link BigInteger}s.
+     * The fraction is reduced to its canonical form and demoted to {@code int}s whenever its values fit.
+     *
+     * @param numerator The numerator.
+     * @param denominator The denominator.
+     * @return Fraction object, a {@link BigFraction} if the reduced values do not fit into an {@code int}.
+     */
+    public static Fraction with(BigInteger numerator, BigInteger denominator) {
+        if (numerator.bitLength() < Long.SIZE - 1 && denominator.bitLength() < Long.SIZE - 1) {
+            return with(numerator.longValue(), denominator.longValue());
+        }
+
+        return BigFraction.with(numerator, denominator).reduce();
+    }
+
+    /**
+     * Factory method to create a {@code Fraction} from its primitive representation, see {@link PackedFraction}.
+     *
+     * @param packed Numerator and denominator packed into a {@code long}, reduced or not.
+     * @return Fraction object.
+     */
+    public static Fraction fromPacked(long packed) {
+        return with(PackedFraction.numerator(packed), PackedFraction.denominator(packed));
+    }
+
+    /**
+     * Gets the primitive representation of this {@code Fraction}, see {@link PackedFraction}.
+     *
+     * @return Numerator and denominator packed into a {@code long}.
+     */
+    public long toPacked() {
+        return PackedFraction.pack(numerator, denominator);
+    }
+
+    public int getNumerator() {
+        return numerator;
+    }
+
+    public int getDenominator() {
+        return denominator;
+    }
+
+    public BigInteger getBigNumerator() {
+        return BigInteger.valueOf(numerator);
+    }
+
+    public BigInteger getBigDenominator() {
+        return BigInteger.valueOf(denominator);
+    }
+
+    /**
+     * Verifies if this {@code Fraction} has 0 as denominator. Might be helpful to
+     * validate incoming fractions.
+     *
+     * @return {@code true} if the fraction has 0 as denominator. {@code false} otherwise.
+     */
+    public boolean hasZeroAsDenominator() {
+        return denominator == 0;
+    }
+
+    /**
+     * Verifies if this {@code Fraction} has 0 as numerator, which is the case of the fraction representing 0.
+     *
+     * @return {@code true} if the fraction has 0 as numerator. {@code false} otherwise.
+     */
+    public boolean isZero() {
+        return numerator == 0;
+    }
+
+    /**
+     * Verifies if this fraction is improper, which means that its numerator is greater than the denominator.
+     *
+     * @return {@code true} if this {@code Fraction} is improper. {@code false} otherwise.
+     */
+    public boolean isImproper() {
+        return Math.abs(numerator) > denominator;
+    }
+
+    /**
+     * Given a {@code String} representing a fraction, this method parses it to a simple fraction.
+     * In other words, {@code String} representing integer, fraction or mixed fractions are converted into a
+     * simple fraction with numerator and denominator only.
+     *
+     * The shape of the given string must be like: 1/2, -1/3, 2_1/4, 3, -1.
+     * The operand is validated and converted in a single pass by {@link OperandScanner}, operands with numbers
+     * that do not fit into an {@code int} are parsed by {@link BigFraction#parse(String)}. Invalid operands are
+     * reported to JDK Flight Recorder as {@link ParseFailureEvent}s.
+     *
+     * @param operand String representing
+     * @return Fraction object parsed from the given string.
+     * @throws CalculatorException If anything goes wrong while parsing the String.
+     */
+    public static Fraction parse(String operand) throws CalculatorException {
+        long scanned = OperandScanner.scan(operand);
+        Fraction fraction = scanned != OperandScanner.NOT_A_FRACTION
+                ? fromPacked(scanned)
+                : BigFraction.parseOrNull(operand);
+
+        if (fraction == null) {
+            ParseFailureEvent.emit(operand, ErrorCode.MALFORMED_OPERAND);
+            throw new CalculatorException(ErrorCode.MALFORMED_OPERAND, operand, Message.parsingError(operand));
+        }
+
+        if (fraction.hasZeroAsDenominator()) {
+            ParseFailureEvent.emit(operand, ErrorCode.ZERO_AS_DENOMINATOR);
+            throw new CalculatorException(ErrorCode.ZERO_AS_DENOMINATOR, operand,
+                    Message.zeroAsDenominatorFor(operand));
+        }
+
+        return fraction;
+    }
+
+    /**
+     * Same as {@link Fraction#parse(String)}, but reports invalid operands as a failed {@link FractionResult}
+     * instead of throwing, so malformed input costs neither a stack trace nor an unwinding.
+     *
+     * @param operand String representing an integer, a simple fraction or a mixed fraction.
+     * @return The parsed fraction, or the reason why it cannot be parsed along with {@code operand}.
+     */
+    public static FractionResult tryParse(String operand) {
+        long scanned = OperandScanner.scan(operand);
+        Fraction fraction = scanned != OperandScanner.NOT_A_FRACTION
+                ? fromPacked(scanned)
+                : BigFraction.parseOrNull(operand);
+
+        if (fraction == null) {
+            ParseFailureEvent.emit(operand, ErrorCode.MALFORMED_OPERAND);
+            return FractionResult.failure(ErrorCode.MALFORMED_OPERAND, operand, Message.parsingError(operand));
+        }
+
+        if (fraction.hasZeroAsDenominator()) {
+            ParseFailureEvent.emit(operand, ErrorCode.ZERO_AS_DENOMINATOR);
+            return FractionResult.failure(ErrorCode.ZERO_AS_DENOMINATOR, operand,
+                    Message.zeroAsDenominatorFor(operand));
+        }
+
+        return FractionResult.success(fraction);
+    }
+
+    /**
+     * Validates {@code operand} is representing an integer.
+     *
+     * @param operand String to validate.
+     * @return {@code true} if the incoming string is representing an integer. {@code false} otherwise.
+     */
+    protected static boolean isInteger(String operand) {
+        return OperandScanner.shapeOf(operand) == OperandScanner.INTEGER;
+    }
+
+    /**
+     * Validates {@code operand} is representing a simple fraction with shape {@code <numerator>/<denominator>}.
+     *
+     * @param operand String to validate.
+     * @return {@code true} if the incoming string is representing a simple fraction. {@code false} otherwise.
+     */
+    protected static boolean isSimpleFraction(String operand) {
+        return OperandScanner.shapeOf(operand) == OperandScanner.SIMPLE_FRACTION;
+    }
+
+    /**
+     * Validates {@code operand} is representing a mixed with shape
+     * {@code <whole_number>(_<numerator>/<denominator>)(<numerator>/<denominator>)}.
+     *
+     * @param operand String to validate.
+     * @return {@code true} if the incoming string is representing a mixed. {@code false} otherwise.
+     */
+    protected static boolean isMixedFraction(String operand) {
+        return OperandScanner.shapeOf(operand) == OperandScanner.MIXED_FRACTION;
+    }
+
+    /**
+     * Transforms a pure integer into a simple fraction with shape: 3 => 3/1
+     *
+     * @param operand The string operand to parse.
+     * @return Fraction representation of the integer.
+     */
+    protected static Fraction parseInteger(String operand) {
+        return fromPacked(OperandScanner.scan(operand));
+    }
+
+    /**
+     * Transforms a string representing a simple fraction into a {@code Fraction}.
+     *
+     * @param operand The string operand to parse.
+     * @return Fraction representation of the simple fraction.
+     */
+    protected static Fraction parseSimpleFraction(String operand) {
+        return fromPacked(OperandScanner.scan(operand));
+    }
+
+    /**
+     * Transforms a string representing a simple fraction into a {@code Fraction}.
+     * Expected behaviour: 1_1/2 => 3/2
+     *
+     * @param operand The string operand to parse.
+     * @return Fraction representation of the mixed fraction.
+     */
+    protected static Fraction parseMixedFraction(String operand) {
+        return fromPacked(OperandScanner.scan(operand));
+    }
+
+    static boolean fitsInInt(long value) {
+        return (int) value == value;
+    }
+
+    /**
+     * Numerator of the simple fraction with the same value, which is not the numerator for mixed fractions.
+     */
+    BigInteger valueNumerator() {
+        return getBigNumerator();
+    }
+
+    /**
+     * Denominator of the simple fraction with the same value.
+     */
+    BigInteger valueDenominator() {
+        return getBigDenominator();
+    }
+
+    /**
+     * Compares two fractions by their value, without overflowing. Fractions with 0 as denominator are ordered like
+     * infinities: -1/0 goes before any other fraction and 1/0 after them, followed by 0/0.
+     *
+     * The order is consistent with {@link Fraction#equals(Object)} for simple fractions, while a mixed fraction
+     * compares as equal to the simple fraction with the same value.
+     *
+     * @param that Fraction to compare with.
+     * @return A negative number, zero or a positive number as this fraction is less than, equal to,
+     *         or greater than {@code that}.
+     */
+    @Override
+    public int compareTo(Fraction that) {
+        if (getClass() == Fraction.class && that.getClass() == Fraction.class
+                && denominator != 0 && that.denominator != 0) {
+            return Long.compare((long) numerator * that.denominator, (long) that.numerator * denominator);
+        }
+
+        int rank = infinityRank(this);
+        int thatRank = infinityRank(that);
+
+        if (rank != 0 || thatRank != 0) {
+            return Integer.compare(rank, thatRank);
+        }
+
+        return valueNumerator().multiply(that.valueDenominator())
+                .compareTo(that.valueNumerator().multiply(valueDenominator()));
+    }
+
+    private static int infinityRank(Fraction fraction) {
+        if (!fraction.hasZeroAsDenominator()) return 0;
+
+        int sign = fraction.valueNumerator().signum();
+        return sign == 0 ? 2 : sign;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * numerator + denominator;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+
+        Fraction thatFraction = (Fraction) that;
+
+        return this.numerator == thatFraction.numerator && this.denominator == thatFraction.denominator;
+    }
+
+    @Override
+    public String toString() {
+        return denominator == 1 ? String.valueOf(numerator) : numerator + "/" + denominator;
+    }
+}
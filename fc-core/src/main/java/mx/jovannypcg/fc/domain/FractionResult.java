@@ -0,0 +1,88 @@
+package mx.jovannypcg.fc.domain;
+
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+/**
+ * Outcome of a calculation which does not throw: either a {@link Fraction} or the {@link CalculatorException}
+ * explaining why there is none. Failures are created without a stack trace, so invalid input costs about the
+ * same as valid input in bulk paths.
+ */
+public class FractionResult {
+    private final Fraction value;
+    private final CalculatorException error;
+
+    private FractionResult(Fraction value, CalculatorException error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public static FractionResult success(Fraction value) {
+        return new FractionResult(value, null);
+    }
+
+    public static FractionResult failure(CalculatorException error) {
+        return new FractionResult(null, error);
+    }
+
+    /**
+     * Creates a failure whose error has no stack trace.
+     *
+     * @param errorCode Reason of the failure.
+     * @param operand Offending operand or expression, {@code null} if there is none.
+     * @param message Message to display to the user.
+     * @return Failed result.
+     */
+    public static FractionResult failure(ErrorCode errorCode, String operand, String message) {
+        return new FractionResult(null, CalculatorException.withoutStackTrace(errorCode, operand, message));
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * @return The calculated fraction.
+     * @throws IllegalStateException If the calculation failed.
+     */
+    public Fraction getValue() {
+        if (error != null) {
+            throw new IllegalStateException("No value for a failed result: " + error.getMessage());
+        }
+
+        return value;
+    }
+
+    /**
+     * @return Why the calculation failed, {@code null} if it succeeded.
+     */
+    public CalculatorException getError() {
+        return error;
+    }
+
+    /**
+     * @return Reason of the failure, {@code null} if the calculation succeeded.
+     */
+    public ErrorCode getErrorCode() {
+        return error != null ? error.getErrorCode() : null;
+    }
+
+    /**
+     * Bridge to the API based on exceptions.
+     *
+     * @return The calculated fraction.
+     * @throws CalculatorException If the calculation failed.
+     */
+    public Fraction orElseThrow() throws CalculatorException {
+        if (error != null) {
+            throw error;
+        }
+
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return error != null ? error.getErrorCode() + ": " + error.getMessage() : String.valueOf(value);
+    }
+}
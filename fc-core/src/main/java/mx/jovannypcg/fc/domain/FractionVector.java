@@ -0,0 +1,349 @@
+package mx.jovannypcg.fc.domain;
+
+import java.util.Arrays;
+
+/**
+ * Columnar representation of many fractions: numerators and denominators are kept in two parallel {@code int}
+ * arrays instead of one object per fraction, the bulk counterpart of {@link PackedFraction}.
+ *
+ * Element-wise operations run in two passes. The first one computes the unreduced results with {@code long}s,
+ * which cannot overflow, in a loop without branches nor calls that the JIT compiler is able to unroll and
+ * vectorize. The second one reduces every result, see {@link FractionVector#reduce(long[], long[])}.
+ *
+ * Like {@link PackedFraction}, every element is reduced and an {@link ArithmeticException} is thrown when a
+ * denominator would be 0 or when a reduced result does not fit into two {@code int}s.
+ * Vectors are immutable, operations return a new vector.
+ */
+public class FractionVector {
+    private final int[] numerators;
+    private final int[] denominators;
+
+    private FractionVector(int[] numerators, int[] denominators) {
+        this.numerators = numerators;
+        this.denominators = denominators;
+    }
+
+    /**
+     * Factory method to create a {@code FractionVector} from numerator and denominator columns, reducing them.
+     *
+     * @param numerators The numerators.
+     * @param denominators The denominators, one per numerator.
+     * @return FractionVector object.
+     * @throws IllegalArgumentException If the columns have different lengths.
+     */
+    public static FractionVector of(int[] numerators, int[] denominators) {
+        checkLength(numerators.length, denominators.length);
+
+        long[] longNumerators = new long[numerators.length];
+        long[] longDenominators = new long[denominators.length];
+
+        for (int i = 0; i < numerators.length; i++) {
+            longNumerators[i] = numerators[i];
+            longDenominators[i] = denominators[i];
+        }
+
+        return reduce(longNumerators, longDenominators);
+    }
+
+    /**
+     * Factory method to create a {@code FractionVector} from individual fractions, mixed fractions are converted
+     * into simple fractions.
+     *
+     * @param fractions The elements of the vector.
+     * @return FractionVector object.
+     * @throws ArithmeticException If a fraction does not fit into an {@code int} or has 0 as denominator.
+     */
+    public static FractionVector of(Fraction... fractions) {
+        int[] numerators = new int[fractions.length];
+        int[] denominators = new int[fractions.length];
+
+        for (int i = 0; i < fractions.length; i++) {
+            long packed = fractions[i].toPacked();
+            numerators[i] = PackedFraction.numerator(packed);
+            denominators[i] = PackedFraction.denominator(packed);
+        }
+
+        return of(numerators, denominators);
+    }
+
+    /**
+     * Reduces every fraction given by numerator and denominator columns, keeping the sign in the numerator.
+     * The bulk counterpart of {@link PackedFraction#reduce(long)}, used to narrow the results of element-wise
+     * operations back into {@code int}s.
+     *
+     * @param numerators The numerators.
+     * @param denominators The denominators, one per numerator.
+     * @return FractionVector with the reduced fractions.
+     * @throws ArithmeticException If a denominator is 0 or a reduced fraction does not fit into two {@code int}s.
+     */
+    public static FractionVector reduce(long[] numerators, long[] denominators) {
+        checkLength(numerators.length, denominators.length);
+
+        int[] reducedNumerators = new int[numerators.length];
+        int[] reducedDenominators = new int[denominators.length];
+
+        for (int i = 0; i < numerators.length; i++) {
+            long numerator = numerators[i];
+            long denominator = denominators[i];
+
+            if (denominator == 0) {
+                throw new ArithmeticException("Zero denominator at " + i);
+            }
+
+            long gcf = PackedFraction.greatestCommonFactor(numerator, denominator);
+
+            if (denominator < 0) {
+                gcf = -gcf;
+            }
+
+            if (gcf != 1) {
+                numerator /= gcf;
+                denominator /= gcf;
+            }
+
+            reducedNumerators[i] = Math.toIntExact(numerator);
+            reducedDenominators[i] = Math.toIntExact(denominator);
+        }
+
+        return new FractionVector(reducedNumerators, reducedDenominators);
+    }
+
+    public int size() {
+        return numerators.length;
+    }
+
+    public int getNumerator(int index) {
+        return numerators[index];
+    }
+
+    public int getDenominator(int index) {
+        return denominators[index];
+    }
+
+    /**
+     * Gets the element at {@code index} as a {@link Fraction}.
+     *
+     * @param index Position of the element.
+     * @return Fraction object.
+     */
+    public Fraction get(int index) {
+        return Fraction.canonical(numerators[index], denominators[index]);
+    }
+
+    /**
+     * Gets every element as a {@link Fraction}.
+     *
+     * @return Array with one fraction per element.
+     */
+    public Fraction[] toArray() {
+        Fraction[] fractions = new Fraction[size()];
+
+        for (int i = 0; i < fractions.length; i++) {
+            fractions[i] = get(i);
+        }
+
+        return fractions;
+    }
+
+    /**
+     * Adds {@code that} to this vector, element by element.
+     *
+     * @param that Vector with the same size.
+     * @return Vector with the sums.
+     */
+    public FractionVector add(FractionVector that) {
+        checkLength(size(), that.size());
+
+        long[] resultNumerators = new long[size()];
+        long[] resultDenominators = new long[size()];
+
+        for (int i = 0; i < resultNumerators.length; i++) {
+            resultNumerators[i] = (long) numerators[i] * that.denominators[i]
+                    + (long) that.numerators[i] * denominators[i];
+            resultDenominators[i] = (long) denominators[i] * that.denominators[i];
+        }
+
+        return reduce(resultNumerators, resultDenominators);
+    }
+
+    /**
+     * Subtracts {@code that} from this vector, element by element.
+     *
+     * @param that Vector with the same size.
+     * @return Vector with the differences.
+     */
+    public FractionVector subtract(FractionVector that) {
+        checkLength(size(), that.size());
+
+        long[] resultNumerators = new long[size()];
+        long[] resultDenominators = new long[size()];
+
+        for (int i = 0; i < resultNumerators.length; i++) {
+            resultNumerators[i] = (long) numerators[i] * that.denominators[i]
+                    - (long) that.numerators[i] * denominators[i];
+            resultDenominators[i] = (long) denominators[i] * that.denominators[i];
+        }
+
+        return reduce(resultNumerators, resultDenominators);
+    }
+
+    /**
+     * Multiplies this vector by {@code that}, element by element.
+     *
+     * @param that Vector with the same size.
+     * @return Vector with the products.
+     */
+    public FractionVector multiply(FractionVector that) {
+        checkLength(size(), that.size());
+
+        long[] resultNumerators = new long[size()];
+        long[] resultDenominators = new long[size()];
+
+        for (int i = 0; i < resultNumerators.length; i++) {
+            resultNumerators[i] = (long) numerators[i] * that.numerators[i];
+            resultDenominators[i] = (long) denominators[i] * that.denominators[i];
+        }
+
+        return reduce(resultNumerators, resultDenominators);
+    }
+
+    /**
+     * Divides this vector by {@code that}, element by element.
+     *
+     * @param that Vector with the same size.
+     * @return Vector with the quotients.
+     * @throws ArithmeticException If an element of {@code that} is 0.
+     */
+    public FractionVector divide(FractionVector that) {
+        checkLength(size(), that.size());
+
+        long[] resultNumerators = new long[size()];
+        long[] resultDenominators = new long[size()];
+
+        for (int i = 0; i < resultNumerators.length; i++) {
+            resultNumerators[i] = (long) numerators[i] * that.denominators[i];
+            resultDenominators[i] = (long) denominators[i] * that.numerators[i];
+        }
+
+        return reduce(resultNumerators, resultDenominators);
+    }
+
+    /**
+     * Adds {@code fraction} to every element of this vector.
+     *
+     * @param fraction Scalar whose values fit into an {@code int}.
+     * @return Vector with the sums.
+     */
+    public FractionVector add(Fraction fraction) {
+        long scalar = scalar(fraction);
+        long scalarNumerator = PackedFraction.numerator(scalar);
+        long scalarDenominator = PackedFraction.denominator(scalar);
+
+        long[] resultNumerators = new long[size()];
+        long[] resultDenominators = new long[size()];
+
+        for (int i = 0; i < resultNumerators.length; i++) {
+            resultNumerators[i] = numerators[i] * scalarDenominator + scalarNumerator * denominators[i];
+            resultDenominators[i] = denominators[i] * scalarDenominator;
+        }
+
+        return reduce(resultNumerators, resultDenominators);
+    }
+
+    /**
+     * Subtracts {@code fraction} from every element of this vector.
+     *
+     * @param fraction Scalar whose values fit into an {@code int}.
+     * @return Vector with the differences.
+     */
+    public FractionVector subtract(Fraction fraction) {
+        long scalar = scalar(fraction);
+        long scalarNumerator = PackedFraction.numerator(scalar);
+        long scalarDenominator = PackedFraction.denominator(scalar);
+
+        long[] resultNumerators = new long[size()];
+        long[] resultDenominators = new long[size()];
+
+        for (int i = 0; i < resultNumerators.length; i++) {
+            resultNumerators[i] = numerators[i] * scalarDenominator - scalarNumerator * denominators[i];
+            resultDenominators[i] = denominators[i] * scalarDenominator;
+        }
+
+        return reduce(resultNumerators, resultDenominators);
+    }
+
+    /**
+     * Multiplies every element of this vector by {@code fraction}.
+     *
+     * @param fraction Scalar whose values fit into an {@code int}.
+     * @return Vector with the products.
+     */
+    public FractionVector multiply(Fraction fraction) {
+        long scalar = scalar(fraction);
+
+        return multiply(PackedFraction.numerator(scalar), PackedFraction.denominator(scalar));
+    }
+
+    /**
+     * Divides every element of this vector by {@code fraction}.
+     *
+     * @param fraction Scalar whose values fit into an {@code int}.
+     * @return Vector with the quotients.
+     * @throws ArithmeticException If {@code fraction} is 0.
+     */
+    public FractionVector divide(Fraction fraction) {
+        long scalar = scalar(fraction);
+
+        return multiply(PackedFraction.denominator(scalar), PackedFraction.numerator(scalar));
+    }
+
+    /**
+     * Multiplies every element by {@code scalarNumerator}/{@code scalarDenominator}, which is also how dividing
+     * by a scalar is computed, reading the columns of this vector only once.
+     */
+    private FractionVector multiply(long scalarNumerator, long scalarDenominator) {
+        long[] resultNumerators = new long[size()];
+        long[] resultDenominators = new long[size()];
+
+        for (int i = 0; i < resultNumerators.length; i++) {
+            resultNumerators[i] = numerators[i] * scalarNumerator;
+            resultDenominators[i] = denominators[i] * scalarDenominator;
+        }
+
+        return reduce(resultNumerators, resultDenominators);
+    }
+
+    /**
+     * Reduces {@code fraction} once, so scalar operations run over the columns of this vector only.
+     */
+    private static long scalar(Fraction fraction) {
+        return PackedFraction.reduce(fraction.toPacked());
+    }
+
+    private static void checkLength(int length, int thatLength) {
+        if (length != thatLength) {
+            throw new IllegalArgumentException("Different lengths: " + length + " and " + thatLength);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(numerators) + Arrays.hashCode(denominators);
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+
+        FractionVector thatVector = (FractionVector) that;
+
+        return Arrays.equals(this.numerators, thatVector.numerators) &&
+                Arrays.equals(this.denominators, thatVector.denominators);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
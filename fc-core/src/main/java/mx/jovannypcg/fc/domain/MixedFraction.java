@@ -0,0 +1,155 @@
+package mx.jovannypcg.fc.domain;
+
+import java.math.BigInteger;
+
+/**
+ * Represents a simple fraction with whole number, numerator and denominator.
+ * The fractional part is kept in canonical form, see {@link Fraction}.
+ *
+ * Mixed fractions with a small whole number and a small fractional part are shared from a cache.
+ */
+public class MixedFraction extends Fraction {
+    /**
+     * Mixed fractions whose whole number and numerator are between {@code -CACHE_LIMIT} and {@code CACHE_LIMIT}
+     * are cached, as long as their denominator is between 1 and {@link Fraction#CACHE_DENOMINATOR_LIMIT}.
+     */
+    public static final int CACHE_LIMIT = 16;
+
+    private static final int CACHE_SPAN = 2 * CACHE_LIMIT + 1;
+
+    /**
+     * Filled lazily, see {@link Fraction}.
+     */
+    private static final MixedFraction[] CACHE = new MixedFraction[CACHE_SPAN * CACHE_SPAN * CACHE_DENOMINATOR_LIMIT];
+
+    private final int wholeNumber;
+
+    private MixedFraction(int wholeNumber, int numerator, int denominator) {
+        super(numerator, denominator);
+        this.wholeNumber = wholeNumber;
+    }
+
+    /**
+     * Returns the mixed fraction for a fractional part already in canonical form, shared from the cache
+     * if its values are small enough.
+     */
+    private static MixedFraction canonical(int wholeNumber, int numerator, int denominator) {
+        if (wholeNumber < -CACHE_LIMIT || wholeNumber > CACHE_LIMIT
+                || numerator < -CACHE_LIMIT || numerator > CACHE_LIMIT
+                || denominator < 1 || denominator > CACHE_DENOMINATOR_LIMIT) {
+            return new MixedFraction(wholeNumber, numerator, denominator);
+        }
+
+        int index = ((wholeNumber + CACHE_LIMIT) * CACHE_SPAN + numerator + CACHE_LIMIT) * CACHE_DENOMINATOR_LIMIT
+                + denominator - 1;
+        MixedFraction fraction = CACHE[index];
+
+        if (fraction == null) {
+            fraction = new MixedFraction(wholeNumber, numerator, denominator);
+            CACHE[index] = fraction;
+        }
+
+        return fraction;
+    }
+
+    /**
+     * Factory method to create a {@code MixedFraction}, reducing its fractional part.
+     *
+     * @param wholeNumber The whole number.
+     * @param numerator The numerator.
+     * @param denominator The denominator.
+     * @return MixedFraction object.
+     */
+    public static MixedFraction with(int wholeNumber, int numerator, int denominator) {
+        int gcf = (int) PackedFraction.greatestCommonFactor(numerator, denominator);
+
+        if (gcf > 1) {
+            numerator /= gcf;
+            denominator /= gcf;
+        }
+
+        return canonical(wholeNumber, numerator, denominator);
+    }
+
+    public int getWholeNumber() {
+        return wholeNumber;
+    }
+
+    /**
+     * Given a {@link Fraction}, this method applies mathematics to convert a simple fraction
+     * into a {@code MixedFraction}.
+     *
+     * @param fraction Fraction object to be parsed.
+     * @return MixedFraction representation.
+     * @throws ArithmeticException If {@code fraction} is a {@link BigFraction} whose values do not fit into an {@code int},
+     *                             use {@link BigMixedFraction#parse(BigFraction)} instead.
+     */
+    public static MixedFraction parse(Fraction fraction) {
+        int fractionNumerator = fraction.getNumerator();
+        int fractionDenominator = fraction.getDenominator();
+
+        if (!fraction.isImproper()) {
+            return canonical(0, fractionNumerator, fractionDenominator);
+        }
+
+        int wholeNumber = fractionNumerator / fractionDenominator;
+
+        // whole number keeps the negative sign
+        int numerator = Math.abs(fractionNumerator % fractionDenominator);
+        int denominator = Math.abs(fractionDenominator);
+
+        return canonical(wholeNumber, numerator, denominator);
+    }
+
+    /**
+     * Gets the primitive representation of the improper fraction equivalent to this {@code MixedFraction},
+     * the whole number keeps the sign as in {@link MixedFraction#parse(Fraction)}. See {@link PackedFraction}.
+     *
+     * @return Numerator and denominator packed into a {@code long}.
+     */
+    @Override
+    public long toPacked() {
+        int fractionalNumerator = wholeNumber < 0 ? -numerator : numerator;
+        return PackedFraction.pack(Math.addExact(Math.multiplyExact(wholeNumber, denominator), fractionalNumerator),
+                denominator);
+    }
+
+    /**
+     * Computed with {@code long}s, so it does not overflow even if {@link MixedFraction#toPacked()} would.
+     */
+    @Override
+    BigInteger valueNumerator() {
+        long fractionalNumerator = wholeNumber < 0 ? -(long) numerator : numerator;
+        return BigInteger.valueOf((long) wholeNumber * denominator + fractionalNumerator);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + wholeNumber;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (!(that instanceof MixedFraction)) return false;
+
+        MixedFraction thatFraction = (MixedFraction) that;
+
+        return this.numerator == thatFraction.numerator &&
+                this.denominator == thatFraction.denominator &&
+                this.wholeNumber == thatFraction.wholeNumber;
+    }
+
+    @Override
+    public String toString() {
+        String wholeNumberPrefix = wholeNumber != 0 ? wholeNumber + "_" : "";
+
+        if (wholeNumber == 0) {
+            return super.toString(); // Only numerator and denominator
+        } else if (numerator == 0) {
+            return String.valueOf(wholeNumber); // Integer without fraction
+        } else {
+            return wholeNumberPrefix + super.toString();
+        }
+    }
+}
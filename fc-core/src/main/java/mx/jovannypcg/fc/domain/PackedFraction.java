@@ -0,0 +1,167 @@
+package mx.jovannypcg.fc.domain;
+
+/**
+ * Primitive representation of a fraction: two {@code int}s packed into a single {@code long}, numerator in the
+ * upper 32 bits and denominator in the lower 32 bits. Provides arithmetic over packed values, so loops over
+ * millions of fractions can be written without allocating any object.
+ *
+ * Every operation returns a reduced fraction, which means that the numerator and denominator have no common
+ * factor other than 1 and the sign is kept by the numerator. An {@link ArithmeticException} is thrown when
+ * the denominator would be 0 or when the reduced result does not fit into two {@code int}s.
+ */
+public class PackedFraction {
+    public static final long ZERO = pack(0, 1);
+    public static final long ONE = pack(1, 1);
+
+    /**
+     * Packs {@code numerator} and {@code denominator} as they are, without reducing them.
+     *
+     * @param numerator The numerator.
+     * @param denominator The denominator.
+     * @return Packed fraction.
+     */
+    public static long pack(int numerator, int denominator) {
+        return ((long) numerator << 32) | (denominator & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Packs the reduced version of {@code numerator}/{@code denominator}.
+     *
+     * @param numerator The numerator.
+     * @param denominator The denominator.
+     * @return Packed and reduced fraction.
+     */
+    public static long of(int numerator, int denominator) {
+        return reduce((long) numerator, (long) denominator);
+    }
+
+    public static int numerator(long fraction) {
+        return (int) (fraction >> 32);
+    }
+
+    public static int denominator(long fraction) {
+        return (int) fraction;
+    }
+
+    /**
+     * Reduces a packed fraction which might have common factors or a negative denominator.
+     *
+     * @param fraction Packed fraction to reduce.
+     * @return Packed and reduced fraction.
+     */
+    public static long reduce(long fraction) {
+        return reduce((long) numerator(fraction), (long) denominator(fraction));
+    }
+
+    /**
+     * Adds {@code x} and {@code y} using the least common multiple of their denominators.
+     */
+    public static long add(long x, long y) {
+        long xDenominator = denominator(x);
+        long yDenominator = denominator(y);
+        long gcf = nonZero(greatestCommonFactor(xDenominator, yDenominator));
+
+        return reduce(numerator(x) * (yDenominator / gcf) + numerator(y) * (xDenominator / gcf),
+                xDenominator / gcf * yDenominator);
+    }
+
+    /**
+     * Subtracts {@code y} from {@code x} using the least common multiple of their denominators.
+     */
+    public static long subtract(long x, long y) {
+        long xDenominator = denominator(x);
+        long yDenominator = denominator(y);
+        long gcf = nonZero(greatestCommonFactor(xDenominator, yDenominator));
+
+        return reduce(numerator(x) * (yDenominator / gcf) - numerator(y) * (xDenominator / gcf),
+                xDenominator / gcf * yDenominator);
+    }
+
+    /**
+     * Multiplies {@code x} by {@code y}, cross-reducing numerators against denominators before multiplying.
+     */
+    public static long multiply(long x, long y) {
+        return crossMultiply(numerator(x), denominator(x), numerator(y), denominator(y));
+    }
+
+    /**
+     * Divides {@code x} by {@code y}, cross-reducing numerators and denominators before multiplying.
+     */
+    public static long divide(long x, long y) {
+        return crossMultiply(numerator(x), denominator(x), denominator(y), numerator(y));
+    }
+
+    /**
+     * Compares two reduced fractions by their value.
+     *
+     * @return A negative number, zero or a positive number as {@code x} is less than, equal to,
+     *         or greater than {@code y}.
+     */
+    public static int compare(long x, long y) {
+        return Long.compare((long) numerator(x) * denominator(y), (long) numerator(y) * denominator(x));
+    }
+
+    /**
+     * Returns the greatest common factor for {@code a} and {@code b} using the iterative
+     * { @link https://en.wikipedia.org/wiki/Binary_GCD_algorithm Binary GCD Algorithm}, which relies on shifts
+     * and subtractions instead of divisions. Always positive unless both are 0, or the result is 2<sup>63</sup>
+     * (only when both are 0 or {@code Long.MIN_VALUE}), which is returned as {@code Long.MIN_VALUE}.
+     *
+     * The magnitudes are handled as unsigned values, since the magnitude of {@code Long.MIN_VALUE} does not fit
+     * into a {@code long}.
+     *
+     * @return Greatest common factor for {@code a} and {@code b}.
+     */
+    public static long greatestCommonFactor(long a, long b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+
+        if (a == 0) return b;
+        if (b == 0) return a;
+
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>>= Long.numberOfTrailingZeros(a);
+
+        do {
+            b >>>= Long.numberOfTrailingZeros(b);
+
+            if (Long.compareUnsigned(a, b) > 0) {
+                long swap = a;
+                a = b;
+                b = swap;
+            }
+
+            b -= a;
+        } while (b != 0);
+
+        return a << shift;
+    }
+
+    /**
+     * Computes {@code (a / b) * (c / d)}, reducing {@code a} against {@code d} and {@code c} against {@code b} first.
+     */
+    private static long crossMultiply(long a, long b, long c, long d) {
+        long adGcf = nonZero(greatestCommonFactor(a, d));
+        long cbGcf = nonZero(greatestCommonFactor(c, b));
+
+        return reduce((a / adGcf) * (c / cbGcf), (b / cbGcf) * (d / adGcf));
+    }
+
+    private static long nonZero(long gcf) {
+        return gcf == 0 ? 1 : gcf;
+    }
+
+    private static long reduce(long numerator, long denominator) {
+        if (denominator == 0) {
+            throw new ArithmeticException("Zero denominator");
+        }
+
+        long gcf = greatestCommonFactor(numerator, denominator);
+
+        if (denominator < 0) {
+            gcf = -gcf;
+        }
+
+        return pack(Math.toIntExact(numerator / gcf), Math.toIntExact(denominator / gcf));
+    }
+}
@@ -0,0 +1,50 @@
+package mx.jovannypcg.fc.exception;
+
+/**
+ * Reports an input which cannot be calculated. Besides the message, it carries an {@link ErrorCode} and the
+ * offending operand, if any, so callers can react to the failure without parsing the message.
+ *
+ * Capturing the stack trace is most of the cost of creating an exception. Instances created through
+ * {@link CalculatorException#withoutStackTrace(ErrorCode, String, String)} skip it, which is meant for paths
+ * where invalid input is expected and the exception is used as control flow or as a plain error value.
+ */
+public class CalculatorException extends Exception {
+    private final ErrorCode errorCode;
+    private final String operand;
+
+    public CalculatorException(String message) {
+        this(ErrorCode.INVALID_INPUT, null, message);
+    }
+
+    public CalculatorException(ErrorCode errorCode, String operand, String message) {
+        super(message);
+        this.errorCode = errorCode;
+        this.operand = operand;
+    }
+
+    protected CalculatorException(ErrorCode errorCode, String operand, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+        this.operand = operand;
+    }
+
+    /**
+     * Creates an exception without capturing the stack trace.
+     *
+     * @param errorCode Reason of the failure.
+     * @param operand Offending operand or expression, {@code null} if there is none.
+     * @param message Message to display to the user.
+     * @return Exception with an empty stack trace.
+     */
+    public static CalculatorException withoutStackTrace(ErrorCode errorCode, String operand, String message) {
+        return new CalculatorException(errorCode, operand, message, false);
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public String getOperand() {
+        return operand;
+    }
+}
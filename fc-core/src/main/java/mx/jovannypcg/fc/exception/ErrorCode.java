@@ -0,0 +1,31 @@
+package mx.jovannypcg.fc.exception;
+
+/**
+ * Reason why an input cannot be calculated, carried by {@link CalculatorException}.
+ */
+public enum ErrorCode {
+    /** Any other invalid input. */
+    INVALID_INPUT,
+    /** The operation does not have exactly three arguments. */
+    BAD_ARGUMENT_SIZE,
+    /** The arguments are not an operand, an operator and an operand. */
+    BAD_ORDER_OR_FORMAT,
+    /** The operand is not an integer, a simple fraction or a mixed fraction. */
+    MALFORMED_OPERAND,
+    /** The operand has 0 as denominator. */
+    ZERO_AS_DENOMINATOR,
+    /** The expression is blank. */
+    EMPTY_EXPRESSION,
+    /** The expression has a character which does not fit its grammar. */
+    UNEXPECTED_CHARACTER,
+    /** The expression ends before it is complete. */
+    UNEXPECTED_END,
+    /** The expression divides by a value which is 0. */
+    DIVISION_BY_ZERO,
+    /** A variable of the expression has no value bound. */
+    UNBOUND_VARIABLE,
+    /** The expression has no variable with the given name. */
+    UNKNOWN_VARIABLE,
+    /** The number of values does not match the number of variables of the expression. */
+    WRONG_NUMBER_OF_VALUES
+}
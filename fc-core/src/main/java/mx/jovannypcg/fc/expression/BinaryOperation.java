@@ -0,0 +1,32 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+
+/**
+ * Operation between the results of two sub-expressions.
+ */
+class BinaryOperation implements Node {
+    private final FractionCalculator fractionCalculator;
+    private final Operator operator;
+    private final Node left;
+    private final Node right;
+
+    BinaryOperation(FractionCalculator fractionCalculator, Operator operator, Node left, Node right) {
+        this.fractionCalculator = fractionCalculator;
+        this.operator = operator;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public Fraction evaluate(Fraction[] values) throws CalculatorException {
+        return operator.apply(fractionCalculator, left.evaluate(values), right.evaluate(values));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + left + " " + operator.getSymbol() + " " + right + ")";
+    }
+}
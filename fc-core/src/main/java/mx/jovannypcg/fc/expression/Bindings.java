@@ -0,0 +1,80 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+import java.util.Arrays;
+
+/**
+ * Values bound to the variables of an {@link Expression}, the counterpart of the parameters of a prepared statement.
+ * Bindings are meant to be reused row after row: set the values that change and evaluate again.
+ *
+ * <pre>
+ * Bindings bindings = fractionCalculator.compile("price * 3_1/4 - discount").bind();
+ * Fraction total = bindings.set("price", price).set("discount", discount).evaluate();
+ * </pre>
+ *
+ * Instances are mutable and must not be shared across threads.
+ */
+public class Bindings {
+    private final Expression expression;
+    private final Fraction[] values;
+
+    Bindings(Expression expression) {
+        this.expression = expression;
+        this.values = new Fraction[expression.getVariables().size()];
+    }
+
+    /**
+     * Binds {@code value} to the variable called {@code name}.
+     *
+     * @param name Name of the variable.
+     * @param value Value to bind, mixed fractions are converted into simple fractions.
+     * @return These bindings.
+     * @throws CalculatorException If the expression has no variable called {@code name}.
+     */
+    public Bindings set(String name, Fraction value) throws CalculatorException {
+        int position = expression.getVariables().indexOf(name);
+
+        if (position < 0) {
+            throw new CalculatorException(ErrorCode.UNKNOWN_VARIABLE, name,
+                    Message.unknownVariable(name, expression.getSource()));
+        }
+
+        return set(position, value);
+    }
+
+    /**
+     * Binds {@code value} to the variable at {@code position}, see {@link Expression#getVariables()}.
+     *
+     * @param position Position of the variable.
+     * @param value Value to bind, mixed fractions are converted into simple fractions.
+     * @return These bindings.
+     */
+    public Bindings set(int position, Fraction value) {
+        values[position] = expression.getFractionCalculator().reduce(value);
+        return this;
+    }
+
+    /**
+     * Removes every bound value.
+     *
+     * @return These bindings.
+     */
+    public Bindings clear() {
+        Arrays.fill(values, null);
+        return this;
+    }
+
+    /**
+     * Evaluates the expression with the values bound so far.
+     *
+     * @return Reduced simple fraction, never a mixed fraction.
+     * @throws CalculatorException If the evaluation divides by zero or any variable is not bound.
+     */
+    public Fraction evaluate() throws CalculatorException {
+        return expression.evaluate(values);
+    }
+}
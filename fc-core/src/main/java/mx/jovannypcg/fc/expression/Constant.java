@@ -0,0 +1,28 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.domain.Fraction;
+
+/**
+ * Literal operand, or any sub-expression that was folded while compiling.
+ */
+class Constant implements Node {
+    private final Fraction value;
+
+    Constant(Fraction value) {
+        this.value = value;
+    }
+
+    Fraction getValue() {
+        return value;
+    }
+
+    @Override
+    public Fraction evaluate(Fraction[] values) {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
@@ -0,0 +1,146 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.BigMixedFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled representation of an expression like {@code 1/2 + 3_3/4 * (2 - 1/3)}, created by {@link ExpressionParser}.
+ * Parsing and validation happen only once, when the expression is compiled, and constant sub-expressions are
+ * folded into a single value, so evaluating it costs only the remaining arithmetic.
+ *
+ * Expressions may contain variables, like {@code price * 3_1/4 - discount}, which work as the parameters of a
+ * prepared statement: the template is compiled once and then evaluated with different values, either by position
+ * following {@link Expression#getVariables()}, by name, or through reusable {@link Bindings}.
+ *
+ * Instances are immutable and can be shared across threads.
+ */
+public class Expression {
+    private static final Fraction[] NO_VALUES = new Fraction[0];
+
+    private final FractionCalculator fractionCalculator;
+    private final String source;
+    private final Node root;
+    private final List<String> variables;
+
+    Expression(FractionCalculator fractionCalculator, String source, Node root, List<String> variables) {
+        this.fractionCalculator = fractionCalculator;
+        this.source = source;
+        this.root = root;
+        this.variables = Collections.unmodifiableList(variables);
+    }
+
+    /**
+     * Evaluates an expression without variables.
+     *
+     * @return Reduced simple fraction, never a mixed fraction.
+     * @throws CalculatorException If the evaluation divides by zero or the expression has variables.
+     */
+    public Fraction evaluate() throws CalculatorException {
+        if (!variables.isEmpty()) {
+            throw CalculatorException.withoutStackTrace(ErrorCode.UNBOUND_VARIABLE, variables.get(0),
+                    Message.unboundVariable(variables.get(0)));
+        }
+
+        return root.evaluate(NO_VALUES);
+    }
+
+    /**
+     * Evaluates the expression binding {@code values} to its variables by position, in the order given by
+     * {@link Expression#getVariables()}. Mixed fractions are converted into simple fractions, as in
+     * {@link Bindings#set(int, Fraction)}, without modifying {@code values}.
+     *
+     * @param values One value per variable, mixed fractions are accepted.
+     * @return Reduced simple fraction, never a mixed fraction.
+     * @throws CalculatorException If the evaluation divides by zero or the number of values does not match.
+     */
+    public Fraction evaluate(Fraction... values) throws CalculatorException {
+        if (values.length != variables.size()) {
+            throw new CalculatorException(ErrorCode.WRONG_NUMBER_OF_VALUES, source,
+                    Message.wrongNumberOfValues(variables.size(), values.length));
+        }
+
+        return root.evaluate(simpleFractions(values));
+    }
+
+    /**
+     * Evaluates the expression binding the values of {@code values} to the variables with the same name.
+     *
+     * @param values Values by variable name, mixed fractions are accepted.
+     * @return Reduced simple fraction, never a mixed fraction.
+     * @throws CalculatorException If the evaluation divides by zero or any variable is not bound.
+     */
+    public Fraction evaluate(Map<String, Fraction> values) throws CalculatorException {
+        Bindings bindings = bind();
+
+        for (Map.Entry<String, Fraction> value : values.entrySet()) {
+            bindings.set(value.getKey(), value.getValue());
+        }
+
+        return bindings.evaluate();
+    }
+
+    /**
+     * Creates an empty set of {@link Bindings} for this expression. Unlike the expression, bindings are mutable,
+     * so each thread should use its own.
+     *
+     * @return Bindings with no value bound yet.
+     */
+    public Bindings bind() {
+        return new Bindings(this);
+    }
+
+    /**
+     * @return {@code true} if the whole expression was folded into a single value while compiling.
+     */
+    public boolean isConstant() {
+        return root instanceof Constant;
+    }
+
+    /**
+     * @return Names of the variables in order of first appearance, which is also their position.
+     */
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Copies {@code values} only if any of them is a mixed fraction, whose numerator is just the fractional part.
+     */
+    private Fraction[] simpleFractions(Fraction[] values) {
+        Fraction[] simple = values;
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof MixedFraction || values[i] instanceof BigMixedFraction) {
+                if (simple == values) {
+                    simple = values.clone();
+                }
+
+                simple[i] = fractionCalculator.reduce(values[i]);
+            }
+        }
+
+        return simple;
+    }
+
+    FractionCalculator getFractionCalculator() {
+        return fractionCalculator;
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+}
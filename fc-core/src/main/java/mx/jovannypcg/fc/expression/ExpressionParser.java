@@ -0,0 +1,236 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive descent parser which compiles an expression into an {@link Expression}. The grammar is:
+ *
+ * <pre>
+ * sum     := product (('+' | '-') product)*
+ * product := factor (('*' | '/') factor)*
+ * factor  := '-' factor | '(' sum ')' | operand | variable
+ * </pre>
+ *
+ * Operands have the same shape as the ones accepted by {@link Fraction#parse(String)}, like 3, -1/2 or 4_1/2.
+ * A slash between two digits belongs to the operand, which gives the same result as dividing.
+ * Variables are names like {@code price} or {@code unit_2}, an ASCII letter followed by letters, digits or
+ * underscores, whose values are bound when evaluating the {@link Expression}.
+ *
+ * Parsers keep the state of the expression being parsed, so they must not be shared across threads.
+ */
+public class ExpressionParser {
+    private final FractionCalculator fractionCalculator;
+    private String expression;
+    private int position;
+    private List<String> variables;
+
+    public ExpressionParser(FractionCalculator fractionCalculator) {
+        this.fractionCalculator = fractionCalculator;
+    }
+
+    /**
+     * Compiles {@code expression}, folding the operations whose operands are all constants.
+     *
+     * @param expression Expression to compile.
+     * @return The compiled expression.
+     * @throws CalculatorException If the expression is not valid or divides by zero.
+     */
+    public Expression parse(String expression) throws CalculatorException {
+        this.expression = expression;
+        this.position = 0;
+        this.variables = new ArrayList<>();
+
+        skipWhitespace();
+        if (position == expression.length()) {
+            throw failure(ErrorCode.EMPTY_EXPRESSION, Message.emptyExpression());
+        }
+
+        Node root = parseSum();
+
+        if (position < expression.length()) {
+            throw unexpectedCharacter();
+        }
+
+        return new Expression(fractionCalculator, expression, root, variables);
+    }
+
+    private Node parseSum() throws CalculatorException {
+        Node node = parseProduct();
+
+        while (true) {
+            if (accept('+')) {
+                node = combine(Operator.ADD, node, parseProduct());
+            } else if (accept('-')) {
+                node = combine(Operator.SUBTRACT, node, parseProduct());
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private Node parseProduct() throws CalculatorException {
+        Node node = parseFactor();
+
+        while (true) {
+            if (accept('*')) {
+                node = combine(Operator.MULTIPLY, node, parseFactor());
+            } else if (accept('/')) {
+                node = combine(Operator.DIVIDE, node, parseFactor());
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private Node parseFactor() throws CalculatorException {
+        skipWhitespace();
+
+        if (position == expression.length()) {
+            throw failure(ErrorCode.UNEXPECTED_END, Message.unexpectedEnd(expression));
+        }
+
+        char c = expression.charAt(position);
+
+        if (c == '-' && !isDigitAt(position + 1)) {
+            position++;
+            return combine(Operator.SUBTRACT, new Constant(Fraction.with(0, 1)), parseFactor());
+        } else if (c == '(') {
+            position++;
+            Node node = parseSum();
+
+            if (!accept(')')) {
+                throw position == expression.length()
+                        ? failure(ErrorCode.UNEXPECTED_END, Message.unexpectedEnd(expression))
+                        : unexpectedCharacter();
+            }
+
+            return node;
+        } else if (c == '-' || isDigitAt(position)) {
+            return parseOperand();
+        } else if (isLetterAt(position)) {
+            return parseVariable();
+        }
+
+        throw unexpectedCharacter();
+    }
+
+    /**
+     * Parses an operand with shape {@code -?<digits>(_<digits>/<digits>)?(/<digits>)?}.
+     */
+    private Node parseOperand() throws CalculatorException {
+        int start = position;
+
+        if (expression.charAt(position) == '-') {
+            position++;
+        }
+        skipDigits();
+
+        if (isCharAt('_', position)) {
+            position++;
+            skipDigits();
+
+            if (isCharAt('/', position)) {
+                position++;
+                skipDigits();
+            }
+        } else if (isCharAt('/', position) && isDigitAt(position + 1)) {
+            position++;
+            skipDigits();
+        }
+
+        FractionResult operand = Fraction.tryParse(expression.substring(start, position));
+        if (!operand.isSuccess()) {
+            throw operand.getError(); // created without a stack trace, like the syntax errors
+        }
+        skipWhitespace();
+
+        return new Constant(fractionCalculator.reduce(operand.getValue()));
+    }
+
+    /**
+     * Parses a variable name, every occurrence of the same name shares the same slot.
+     */
+    private Node parseVariable() {
+        int start = position;
+
+        while (isLetterAt(position) || isDigitAt(position) || isCharAt('_', position)) {
+            position++;
+        }
+
+        String name = expression.substring(start, position);
+        int slot = variables.indexOf(name);
+
+        if (slot < 0) {
+            slot = variables.size();
+            variables.add(name);
+        }
+
+        return new Variable(name, slot);
+    }
+
+    private Node combine(Operator operator, Node left, Node right) throws CalculatorException {
+        if (left instanceof Constant && right instanceof Constant) {
+            return new Constant(operator.apply(fractionCalculator, ((Constant) left).getValue(),
+                    ((Constant) right).getValue()));
+        }
+
+        return new BinaryOperation(fractionCalculator, operator, left, right);
+    }
+
+    private boolean accept(char c) {
+        skipWhitespace();
+
+        if (isCharAt(c, position)) {
+            position++;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+
+    private void skipDigits() {
+        while (isDigitAt(position)) {
+            position++;
+        }
+    }
+
+    private boolean isDigitAt(int index) {
+        return index < expression.length() && expression.charAt(index) >= '0' && expression.charAt(index) <= '9';
+    }
+
+    private boolean isLetterAt(int index) {
+        if (index >= expression.length()) return false;
+
+        char c = expression.charAt(index);
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private boolean isCharAt(char c, int index) {
+        return index < expression.length() && expression.charAt(index) == c;
+    }
+
+    private CalculatorException unexpectedCharacter() {
+        return failure(ErrorCode.UNEXPECTED_CHARACTER, Message.unexpectedCharacter(expression, position));
+    }
+
+    /**
+     * Syntax errors are reported without a stack trace, they are expected whenever the input is not trusted.
+     */
+    private CalculatorException failure(ErrorCode errorCode, String message) {
+        return CalculatorException.withoutStackTrace(errorCode, expression, message);
+    }
+}
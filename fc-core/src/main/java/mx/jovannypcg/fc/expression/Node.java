@@ -0,0 +1,16 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+
+/**
+ * Element of the tree of a compiled {@link Expression}.
+ */
+interface Node {
+    /**
+     * @param values Values bound to the variables of the expression, by slot.
+     * @return Reduced simple fraction, never a mixed fraction.
+     * @throws CalculatorException If the evaluation divides by zero or a variable is not bound.
+     */
+    Fraction evaluate(Fraction[] values) throws CalculatorException;
+}
@@ -0,0 +1,52 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+/**
+ * Binary operators of an expression, ordered by precedence: multiplication and division are applied
+ * before addition and subtraction.
+ */
+enum Operator {
+    ADD('+'),
+    SUBTRACT('-'),
+    MULTIPLY('*'),
+    DIVIDE('/');
+
+    private final char symbol;
+
+    Operator(char symbol) {
+        this.symbol = symbol;
+    }
+
+    char getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Applies this operator to {@code x} and {@code y} with {@link FractionCalculator}.
+     *
+     * @return Reduced result of the operation.
+     * @throws CalculatorException If {@code y} is zero and this operator is {@link Operator#DIVIDE}.
+     */
+    Fraction apply(FractionCalculator fractionCalculator, Fraction x, Fraction y) throws CalculatorException {
+        switch (this) {
+            case ADD:
+                return fractionCalculator.reduce(fractionCalculator.add(x, y));
+            case SUBTRACT:
+                return fractionCalculator.reduce(fractionCalculator.subtract(x, y));
+            case MULTIPLY:
+                return fractionCalculator.multiply(x, y); // already reduced for reduced operands
+            default:
+                if (y.isZero()) {
+                    throw CalculatorException.withoutStackTrace(ErrorCode.DIVISION_BY_ZERO, null,
+                            Message.divisionByZero());
+                }
+
+                return fractionCalculator.divide(x, y);
+        }
+    }
+}
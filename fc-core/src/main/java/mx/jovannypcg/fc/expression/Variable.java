@@ -0,0 +1,37 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+/**
+ * Named placeholder whose value is bound at evaluation time. Variables are resolved to a slot while compiling,
+ * so evaluating them is just an array access.
+ */
+class Variable implements Node {
+    private final String name;
+    private final int slot;
+
+    Variable(String name, int slot) {
+        this.name = name;
+        this.slot = slot;
+    }
+
+    @Override
+    public Fraction evaluate(Fraction[] values) throws CalculatorException {
+        Fraction value = values[slot];
+
+        if (value == null) {
+            throw CalculatorException.withoutStackTrace(ErrorCode.UNBOUND_VARIABLE, name,
+                    Message.unboundVariable(name));
+        }
+
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
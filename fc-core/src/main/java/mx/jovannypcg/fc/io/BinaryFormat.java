@@ -0,0 +1,63 @@
+package mx.jovannypcg.fc.io;
+
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+/**
+ * Layout of the binary streams written by {@link BinaryFractionWriter} and read by {@link BinaryFractionReader}.
+ *
+ * A stream starts with {@link BinaryFormat#MAGIC}, followed by records. Every record starts with a tag byte:
+ * <ul>
+ *     <li>{@code 0x00} to {@code 0x7F}, a simple fraction whose numerator is within -8 and 7 and whose
+ *     denominator is within 1 and 8, packed into the tag itself: the zigzag numerator in the upper 4 bits and the
+ *     denominator minus one in the lower 3 bits.</li>
+ *     <li>{@link BinaryFormat#FRACTION}, a simple fraction: zigzag varint numerator, varint denominator.</li>
+ *     <li>{@link BinaryFormat#MIXED_FRACTION}: zigzag varint whole number, zigzag varint numerator, varint
+ *     denominator.</li>
+ *     <li>{@link BinaryFormat#BIG_FRACTION} and {@link BinaryFormat#BIG_MIXED_FRACTION}, the same numbers as
+ *     the two above as big integers: varint length followed by the two's-complement bytes, most significant
+ *     first.</li>
+ *     <li>{@link BinaryFormat#FAILURE}, a result which could not be calculated: varint ordinal of its
+ *     {@link ErrorCode}, followed by its message as varint length and UTF-8 bytes.</li>
+ *     <li>{@link BinaryFormat#ADD} to {@link BinaryFormat#DIVIDE}, an operation, followed by its two operands
+ *     as fractions.</li>
+ * </ul>
+ *
+ * Varints take 7 bits per byte, least significant first, with the highest bit set on every byte but the last.
+ * Zigzag maps signed numbers to unsigned ones so small negative numbers take a single byte as well. Fractions
+ * are written in their canonical form, they are validated and reduced again when read.
+ */
+final class BinaryFormat {
+    /** "FCB" and the version of the format. */
+    static final byte[] MAGIC = { 'F', 'C', 'B', 1 };
+
+    static final int SHORT_NUMERATOR_MIN = -8;
+    static final int SHORT_NUMERATOR_MAX = 7;
+    static final int SHORT_DENOMINATOR_MAX = 8;
+
+    static final int FRACTION = 0x80;
+    static final int MIXED_FRACTION = 0x81;
+    static final int BIG_FRACTION = 0x82;
+    static final int BIG_MIXED_FRACTION = 0x83;
+    static final int FAILURE = 0x84;
+
+    static final int ADD = 0x90;
+    static final int SUBTRACT = 0x91;
+    static final int MULTIPLY = 0x92;
+    static final int DIVIDE = 0x93;
+
+    static final String OPERATORS = "+-*/";
+
+    /** Longest varint of an {@code int}, 5 groups of 7 bits. */
+    static final int MAX_VARINT_LENGTH = 5;
+
+    private BinaryFormat() {
+    }
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,286 @@
+package mx.jovannypcg.fc.io;
+
+import mx.jovannypcg.fc.domain.BigMixedFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the records written by {@link BinaryFractionWriter}, see {@link BinaryFormat} for their layout. The
+ * channel is read in large blocks into a reusable buffer, and the numbers are decoded straight from it.
+ *
+ * The caller knows what it expects next, an operation, a fraction or a result, and asks for it. Decoded
+ * fractions are reduced as if created through their factory methods, so a malicious stream cannot build
+ * fractions which are not canonical. Malformed streams are reported with a {@link StreamCorruptedException}.
+ *
+ * Instances are not synchronized, they are meant to be used by a single thread.
+ */
+public class BinaryFractionReader implements Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /** Returned by {@link BinaryFractionReader#readOperator()} once the stream is over. */
+    public static final int END_OF_STREAM = -1;
+
+    /** Longest big integer accepted, in bytes, so a corrupted length does not exhaust the memory. */
+    private static final int MAX_BIG_LENGTH = 1 << 24;
+
+    private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+
+    private final ReadableByteChannel channel;
+    private final byte[] bytes;
+    private final ByteBuffer view;
+    private int position;
+    private int limit;
+    private boolean headerRead;
+
+    public BinaryFractionReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel Source of the records, {@link java.nio.channels.Channels#newChannel(java.io.InputStream)}
+     *                adapts any {@code InputStream}.
+     * @param bufferSize Number of bytes read from {@code channel} at once, at least 32.
+     */
+    public BinaryFractionReader(ReadableByteChannel channel, int bufferSize) {
+        if (bufferSize < 32) {
+            throw new IllegalArgumentException("Buffer size must be at least 32, got " + bufferSize);
+        }
+
+        this.channel = channel;
+        this.bytes = new byte[bufferSize];
+        this.view = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Reads the operator of the next operation, its operands are read afterwards with
+     * {@link BinaryFractionReader#readFraction()}.
+     *
+     * @return One of {@code +}, {@code -}, {@code *} or {@code /}, or {@link BinaryFractionReader#END_OF_STREAM}
+     *         if there are no more records.
+     * @throws IOException If the channel cannot be read or the next record is not an operation.
+     */
+    public int readOperator() throws IOException {
+        readHeader();
+
+        if (position == limit && !fill()) {
+            return END_OF_STREAM;
+        }
+
+        int tag = bytes[position++] & 0xFF;
+
+        if (tag < BinaryFormat.ADD || tag > BinaryFormat.DIVIDE) {
+            throw corrupted("Expected an operation, found tag " + tag);
+        }
+
+        return BinaryFormat.OPERATORS.charAt(tag - BinaryFormat.ADD);
+    }
+
+    /**
+     * Reads the next result, either a fraction or the reason why it could not be calculated.
+     *
+     * @return The result, or {@code null} if there are no more records.
+     * @throws IOException If the channel cannot be read or the next record is not a result.
+     */
+    public FractionResult readResult() throws IOException {
+        readHeader();
+
+        if (position == limit && !fill()) {
+            return null;
+        }
+
+        if ((bytes[position] & 0xFF) != BinaryFormat.FAILURE) {
+            return FractionResult.success(readFraction());
+        }
+
+        position++;
+        int ordinal = readVarint();
+
+        if (ordinal < 0 || ordinal >= ERROR_CODES.length) {
+            throw corrupted("Unknown error code " + ordinal);
+        }
+
+        String message = new String(readBytes(), StandardCharsets.UTF_8);
+        return FractionResult.failure(ERROR_CODES[ordinal], null, message);
+    }
+
+    /**
+     * Reads the next fraction, keeping the type it was written with.
+     *
+     * @return The fraction.
+     * @throws EOFException If there are no more records.
+     * @throws IOException If the channel cannot be read or the next record is not a fraction.
+     */
+    public Fraction readFraction() throws IOException {
+        readHeader();
+
+        int tag = readByte();
+
+        if (tag < BinaryFormat.FRACTION) {
+            return Fraction.with(BinaryFormat.unzigzag(tag >>> 3), (tag & 0x07) + 1);
+        }
+
+        switch (tag) {
+            case BinaryFormat.FRACTION:
+                return Fraction.with(BinaryFormat.unzigzag(readVarint()), readDenominator());
+            case BinaryFormat.MIXED_FRACTION:
+                int wholeNumber = BinaryFormat.unzigzag(readVarint());
+                int numerator = BinaryFormat.unzigzag(readVarint());
+                int denominator = readDenominator();
+
+                checkFractionalPart(wholeNumber != 0, BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+                return MixedFraction.with(wholeNumber, numerator, denominator);
+            case BinaryFormat.BIG_FRACTION:
+                return Fraction.with(readBig(), readBig());
+            case BinaryFormat.BIG_MIXED_FRACTION:
+                BigInteger bigWholeNumber = readBig();
+                BigInteger bigNumerator = readBig();
+                BigInteger bigDenominator = readBig();
+
+                checkFractionalPart(bigWholeNumber.signum() != 0, bigNumerator, bigDenominator);
+                return BigMixedFraction.with(bigWholeNumber, bigNumerator, bigDenominator);
+            default:
+                throw corrupted("Expected a fraction, found tag " + tag);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void readHeader() throws IOException {
+        if (headerRead) {
+            return;
+        }
+
+        for (byte expected : BinaryFormat.MAGIC) {
+            if (position == limit && !fill() || bytes[position++] != expected) {
+                throw corrupted("Not a binary fraction stream");
+            }
+        }
+
+        headerRead = true;
+    }
+
+    /**
+     * The factory methods of mixed fractions reduce the fractional part only, so anything else which is not
+     * canonical is rejected: the fractional part must be proper, and not negative along with a whole number.
+     */
+    private static void checkFractionalPart(boolean hasWholeNumber, BigInteger numerator, BigInteger denominator)
+            throws StreamCorruptedException {
+        if (denominator.signum() <= 0
+                || numerator.abs().compareTo(denominator) >= 0
+                || hasWholeNumber && numerator.signum() < 0) {
+            throw corrupted("Mixed fraction with fractional part " + numerator + "/" + denominator);
+        }
+    }
+
+    private int readByte() throws IOException {
+        if (position == limit && !fill()) {
+            throw new EOFException("Unexpected end of the binary fraction stream");
+        }
+
+        return bytes[position++] & 0xFF;
+    }
+
+    private int readDenominator() throws IOException {
+        int denominator = readVarint();
+
+        if (denominator < 0) {
+            throw corrupted("Negative denominator " + denominator);
+        }
+
+        return denominator;
+    }
+
+    /**
+     * Decodes an unsigned varint of up to 32 bits. Only the lowest 4 bits of the fifth byte are left for the value.
+     */
+    private int readVarint() throws IOException {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+
+            if (shift == 28 && (b & 0x70) != 0) {
+                throw corrupted("Varint wider than 32 bits");
+            }
+
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw corrupted("Varint longer than " + BinaryFormat.MAX_VARINT_LENGTH + " bytes");
+    }
+
+    private BigInteger readBig() throws IOException {
+        byte[] magnitude = readBytes();
+
+        if (magnitude.length == 0) {
+            throw corrupted("Empty big integer");
+        }
+
+        return new BigInteger(magnitude);
+    }
+
+    private byte[] readBytes() throws IOException {
+        int length = readVarint();
+
+        if (length < 0 || length > MAX_BIG_LENGTH) {
+            throw corrupted("Invalid length " + length);
+        }
+
+        byte[] target = new byte[length];
+        int offset = 0;
+
+        while (offset < length) {
+            if (position == limit && !fill()) {
+                throw new EOFException("Unexpected end of the binary fraction stream");
+            }
+
+            int chunk = Math.min(length - offset, limit - position);
+            System.arraycopy(bytes, position, target, offset, chunk);
+            position += chunk;
+            offset += chunk;
+        }
+
+        return target;
+    }
+
+    /**
+     * Reads the next block from the channel, the buffer must have been consumed.
+     *
+     * @return {@code false} if the channel is over.
+     */
+    private boolean fill() throws IOException {
+        view.clear();
+        int read;
+
+        do {
+            read = channel.read(view);
+        } while (read == 0);
+
+        position = 0;
+        limit = Math.max(read, 0);
+
+        return read > 0;
+    }
+
+    private static StreamCorruptedException corrupted(String reason) {
+        return new StreamCorruptedException(reason);
+    }
+}
@@ -0,0 +1,227 @@
+package mx.jovannypcg.fc.io;
+
+import mx.jovannypcg.fc.domain.BigFraction;
+import mx.jovannypcg.fc.domain.BigMixedFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.domain.MixedFraction;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes fractions, operations and results in the compact binary format described by {@link BinaryFormat},
+ * to be read back by {@link BinaryFractionReader}. Records are encoded into a reusable buffer, which is written to
+ * the channel only when it is full or on {@link BinaryFractionWriter#flush()}.
+ *
+ * Instances are not synchronized, they are meant to be used by a single thread.
+ */
+public class BinaryFractionWriter implements Flushable, Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /** Tag and three varints, the longest record of {@code int} numbers. */
+    private static final int MAX_FRACTION_LENGTH = 1 + 3 * BinaryFormat.MAX_VARINT_LENGTH;
+
+    private final WritableByteChannel channel;
+    private final byte[] bytes;
+    private final ByteBuffer view;
+    private int count;
+
+    public BinaryFractionWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * The header of the stream is written right away into the buffer.
+     *
+     * @param channel Destination of the records, {@link java.nio.channels.Channels#newChannel(java.io.OutputStream)}
+     *                adapts any {@code OutputStream}.
+     * @param bufferSize Number of bytes kept before writing to {@code channel}, at least 32.
+     */
+    public BinaryFractionWriter(WritableByteChannel channel, int bufferSize) {
+        if (bufferSize < 32) {
+            throw new IllegalArgumentException("Buffer size must be at least 32, got " + bufferSize);
+        }
+
+        this.channel = channel;
+        this.bytes = new byte[bufferSize];
+        this.view = ByteBuffer.wrap(bytes);
+
+        System.arraycopy(BinaryFormat.MAGIC, 0, bytes, 0, BinaryFormat.MAGIC.length);
+        count = BinaryFormat.MAGIC.length;
+    }
+
+    /**
+     * Writes the operation {@code x operator y}.
+     *
+     * @param operator One of {@code +}, {@code -}, {@code *} or {@code /}.
+     * @param x First operand.
+     * @param y Second operand.
+     * @return This writer.
+     * @throws IllegalArgumentException If the operator is not supported.
+     * @throws IOException If the buffer is full and the channel cannot be written.
+     */
+    public BinaryFractionWriter writeOperation(char operator, Fraction x, Fraction y) throws IOException {
+        int index = BinaryFormat.OPERATORS.indexOf(operator);
+
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown operator \"" + operator + "\"");
+        }
+
+        ensureCapacity(1);
+        bytes[count++] = (byte) (BinaryFormat.ADD + index);
+
+        return writeFraction(x).writeFraction(y);
+    }
+
+    /**
+     * Writes either the value of {@code result} or the reason why it failed.
+     *
+     * @param result Result to write.
+     * @return This writer.
+     * @throws IOException If the buffer is full and the channel cannot be written.
+     */
+    public BinaryFractionWriter writeResult(FractionResult result) throws IOException {
+        if (result.isSuccess()) {
+            return writeFraction(result.getValue());
+        }
+
+        byte[] message = String.valueOf(result.getError().getMessage()).getBytes(StandardCharsets.UTF_8);
+
+        ensureCapacity(1 + BinaryFormat.MAX_VARINT_LENGTH);
+        bytes[count++] = (byte) BinaryFormat.FAILURE;
+        putVarint(result.getErrorCode().ordinal());
+        writeBytes(message);
+
+        return this;
+    }
+
+    /**
+     * Writes {@code fraction} keeping its type, so it is read back with the same {@link Fraction#toString()}.
+     *
+     * @param fraction Fraction to write.
+     * @return This writer.
+     * @throws IOException If the buffer is full and the channel cannot be written.
+     */
+    public BinaryFractionWriter writeFraction(Fraction fraction) throws IOException {
+        if (fraction instanceof BigMixedFraction) {
+            writeTag(BinaryFormat.BIG_MIXED_FRACTION);
+            writeBytes(((BigMixedFraction) fraction).getBigWholeNumber().toByteArray());
+            writeBig(fraction.getBigNumerator(), fraction.getBigDenominator());
+            return this;
+        }
+
+        if (fraction instanceof BigFraction) {
+            writeTag(BinaryFormat.BIG_FRACTION);
+            writeBig(fraction.getBigNumerator(), fraction.getBigDenominator());
+            return this;
+        }
+
+        ensureCapacity(MAX_FRACTION_LENGTH);
+
+        int numerator = fraction.getNumerator();
+        int denominator = fraction.getDenominator();
+
+        if (fraction instanceof MixedFraction) {
+            bytes[count++] = (byte) BinaryFormat.MIXED_FRACTION;
+            putVarint(BinaryFormat.zigzag(((MixedFraction) fraction).getWholeNumber()));
+        } else if (numerator >= BinaryFormat.SHORT_NUMERATOR_MIN && numerator <= BinaryFormat.SHORT_NUMERATOR_MAX
+                && denominator >= 1 && denominator <= BinaryFormat.SHORT_DENOMINATOR_MAX) {
+            bytes[count++] = (byte) (BinaryFormat.zigzag(numerator) << 3 | (denominator - 1));
+            return this;
+        } else {
+            bytes[count++] = (byte) BinaryFormat.FRACTION;
+        }
+
+        putVarint(BinaryFormat.zigzag(numerator));
+        putVarint(denominator);
+
+        return this;
+    }
+
+    /**
+     * Writes every buffered byte to the channel.
+     *
+     * @throws IOException If the channel cannot be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        view.clear().limit(count);
+
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+
+        count = 0;
+    }
+
+    /**
+     * Flushes this writer and closes the channel.
+     *
+     * @throws IOException If the channel cannot be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeTag(int tag) throws IOException {
+        ensureCapacity(1);
+        bytes[count++] = (byte) tag;
+    }
+
+    private void writeBig(BigInteger numerator, BigInteger denominator) throws IOException {
+        writeBytes(numerator.toByteArray());
+        writeBytes(denominator.toByteArray());
+    }
+
+    /**
+     * Writes the length of {@code source} as a varint followed by its bytes, in as many blocks as needed.
+     */
+    private void writeBytes(byte[] source) throws IOException {
+        ensureCapacity(BinaryFormat.MAX_VARINT_LENGTH);
+        putVarint(source.length);
+
+        int offset = 0;
+        while (offset < source.length) {
+            ensureCapacity(1);
+            int length = Math.min(source.length - offset, bytes.length - count);
+
+            System.arraycopy(source, offset, bytes, count, length);
+            count += length;
+            offset += length;
+        }
+    }
+
+    /**
+     * Writes {@code value} as an unsigned varint, there must be room for {@link BinaryFormat#MAX_VARINT_LENGTH}
+     * bytes.
+     */
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[count++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        bytes[count++] = (byte) value;
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (count + length > bytes.length) {
+            flush();
+        }
+    }
+}
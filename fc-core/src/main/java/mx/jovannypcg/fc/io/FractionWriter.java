@@ -0,0 +1,355 @@
+package mx.jovannypcg.fc.io;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.BigFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link Writer} which encodes text as UTF-8 straight into a reusable byte buffer, and writes fractions and
+ * numbers as ASCII digits without going through {@code String}s first. The buffer is written to the channel only
+ * when it is full or on {@link FractionWriter#flush()}, so the channel sees a few large writes.
+ *
+ * {@link FractionWriter#writeFraction(Fraction)} and {@link FractionWriter#writeResult(String[], Fraction)}
+ * produce exactly the same text as {@link Fraction#toString()} and {@link Message#resultOutput(String[], String)}.
+ * Only {@link BigFraction} values, which are rare, are still converted into a {@code String}.
+ *
+ * Instances are not synchronized, they are meant to be used by a single thread.
+ */
+public class FractionWriter extends Writer {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /** Length of the longest {@code long}, {@code -9223372036854775808}. */
+    private static final int MAX_NUMBER_LENGTH = 20;
+    /** Bytes written for a single {@code char} at most, counting a replaced surrogate before it. */
+    private static final int MAX_CHAR_LENGTH = 4;
+    private static final byte REPLACEMENT = '?';
+    private static final int CHUNK_SIZE = 256;
+
+    private final WritableByteChannel channel;
+    private final byte[] bytes;
+    private final ByteBuffer view;
+    private final char[] chars = new char[CHUNK_SIZE];
+    private int count;
+    private char highSurrogate;
+
+    public FractionWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel Destination of the text, {@link java.nio.channels.Channels#newChannel(java.io.OutputStream)}
+     *                adapts any {@code OutputStream}.
+     * @param bufferSize Number of bytes kept before writing to {@code channel}, at least 32.
+     */
+    public FractionWriter(WritableByteChannel channel, int bufferSize) {
+        if (bufferSize < 32) {
+            throw new IllegalArgumentException("Buffer size must be at least 32, got " + bufferSize);
+        }
+
+        this.channel = channel;
+        this.bytes = new byte[bufferSize];
+        this.view = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Writes the echoed expression followed by its result, the same as
+     * {@code Message.resultOutput(args, result.toString())}. No line separator is written.
+     *
+     * @param args Operands and operator of the expression.
+     * @param result Result of the expression.
+     * @return This writer.
+     * @throws IOException If the buffer is full and the channel cannot be written.
+     */
+    public FractionWriter writeResult(String[] args, Fraction result) throws IOException {
+        for (String arg : args) {
+            write(arg);
+            write(' ');
+        }
+
+        write('=');
+        write(' ');
+        return writeFraction(result);
+    }
+
+    /**
+     * Writes {@code fraction} the same as its {@link Fraction#toString()}.
+     *
+     * @param fraction Fraction to write.
+     * @return This writer.
+     * @throws IOException If the buffer is full and the channel cannot be written.
+     */
+    public FractionWriter writeFraction(Fraction fraction) throws IOException {
+        if (fraction instanceof BigFraction) {
+            write(fraction.toString());
+            return this;
+        }
+
+        if (fraction instanceof MixedFraction) {
+            int wholeNumber = ((MixedFraction) fraction).getWholeNumber();
+
+            if (wholeNumber != 0) {
+                writeNumber(wholeNumber);
+
+                if (fraction.getNumerator() == 0) {
+                    return this;
+                }
+
+                write('_');
+            }
+        }
+
+        writeNumber(fraction.getNumerator());
+
+        if (fraction.getDenominator() != 1) {
+            write('/');
+            writeNumber(fraction.getDenominator());
+        }
+
+        return this;
+    }
+
+    /**
+     * Writes the decimal digits of {@code value}, preceded by {@code -} if it is negative.
+     *
+     * @param value Number to write.
+     * @return This writer.
+     * @throws IOException If the buffer is full and the channel cannot be written.
+     */
+    public FractionWriter writeNumber(long value) throws IOException {
+        ensureCapacity(MAX_NUMBER_LENGTH);
+
+        if ((int) value == value) {
+            putNumber((int) value);
+            return this;
+        }
+
+        // Negative values are used for the digits, since Long.MIN_VALUE has no positive counterpart
+        long remaining = value;
+        if (value < 0) {
+            bytes[count++] = '-';
+        } else {
+            remaining = -value;
+        }
+
+        int digits = 1;
+        for (long rest = remaining / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+
+        int position = count + digits;
+        count = position;
+
+        do {
+            bytes[--position] = (byte) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        return this;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureCapacity(MAX_CHAR_LENGTH);
+        put((char) c);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        int i = offset;
+        int end = offset + length;
+
+        while (i < end) {
+            ensureCapacity(MAX_CHAR_LENGTH);
+            int chunkEnd = Math.min(end, i + (bytes.length - count) / MAX_CHAR_LENGTH);
+
+            for (; i < chunkEnd; i++) {
+                char c = chars[i];
+
+                if (c < 0x80 && highSurrogate == 0) {
+                    bytes[count++] = (byte) c;
+                } else {
+                    put(c);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void write(String text, int offset, int length) throws IOException {
+        // String#getChars is much faster than charAt for every char
+        while (length > 0) {
+            int chunk = Math.min(length, this.chars.length);
+            text.getChars(offset, offset + chunk, this.chars, 0);
+            write(this.chars, 0, chunk);
+
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Writes text which is already encoded as UTF-8, such as the output of another {@code FractionWriter}, after
+     * the text written so far. Bytes which do not fit into the buffer are written straight to the channel.
+     *
+     * @param utf8 Encoded text, from its position to its limit. Its position is moved to its limit.
+     * @return This writer.
+     * @throws IOException If the channel cannot be written.
+     */
+    public FractionWriter writeUtf8(ByteBuffer utf8) throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            ensureCapacity(1);
+            bytes[count++] = REPLACEMENT;
+        }
+
+        if (utf8.remaining() <= bytes.length - count) {
+            int length = utf8.remaining();
+            utf8.get(bytes, count, length);
+            count += length;
+            return this;
+        }
+
+        flush();
+
+        while (utf8.hasRemaining()) {
+            channel.write(utf8);
+        }
+
+        return this;
+    }
+
+    @Override
+    public FractionWriter append(CharSequence text) throws IOException {
+        String string = String.valueOf(text);
+        write(string, 0, string.length());
+        return this;
+    }
+
+    @Override
+    public FractionWriter append(char c) throws IOException {
+        write(c);
+        return this;
+    }
+
+    /**
+     * @return Number of bytes waiting in the buffer to be written to the channel.
+     */
+    public int buffered() {
+        return count;
+    }
+
+    /**
+     * Writes every buffered byte to the channel. A dangling high surrogate is kept until the next character.
+     *
+     * @throws IOException If the channel cannot be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        view.clear().limit(count);
+
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+
+        count = 0;
+    }
+
+    /**
+     * Flushes this writer and closes the channel.
+     *
+     * @throws IOException If the channel cannot be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+
+        try {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                ensureCapacity(1);
+                bytes[count++] = REPLACEMENT;
+            }
+
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes the digits of {@code value}, there must be room for {@link FractionWriter#MAX_NUMBER_LENGTH} bytes.
+     * Works on the negative value like {@link FractionWriter#writeNumber(long)}, with cheaper {@code int} division.
+     */
+    private void putNumber(int value) {
+        int remaining = value;
+        if (value < 0) {
+            bytes[count++] = '-';
+        } else {
+            remaining = -value;
+        }
+
+        int digits = 1;
+        for (int limit = -10; digits < 10 && remaining <= limit; limit *= 10) {
+            digits++;
+        }
+
+        int position = count + digits;
+        count = position;
+
+        do {
+            bytes[--position] = (byte) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (count + length > bytes.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Encodes {@code c} as UTF-8, there must be room for {@link FractionWriter#MAX_CHAR_LENGTH} bytes.
+     * Unpaired surrogates are replaced by {@code ?}, as {@link java.io.OutputStreamWriter} does.
+     */
+    private void put(char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                bytes[count++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+
+            bytes[count++] = REPLACEMENT; // at most 3 more bytes follow for c, still within the room reserved
+        }
+
+        if (c < 0x80) {
+            bytes[count++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[count++] = (byte) (0xC0 | (c >> 6));
+            bytes[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            bytes[count++] = REPLACEMENT;
+        } else {
+            bytes[count++] = (byte) (0xE0 | (c >> 12));
+            bytes[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+}
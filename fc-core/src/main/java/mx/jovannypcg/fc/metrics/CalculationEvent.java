@@ -0,0 +1,87 @@
+package mx.jovannypcg.fc.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+
+/**
+ * JDK Flight Recorder event for every calculation of {@link mx.jovannypcg.fc.command.FractionCalculator}, either a
+ * single operation or an expression, so calculations can be correlated with GC, lock or I/O events.
+ *
+ * The event is meant to be used as follows, which costs nothing but a couple of empty calls when it is not being
+ * recorded, since the instance is then removed by escape analysis:
+ *
+ * <pre>
+ * CalculationEvent event = new CalculationEvent();
+ * event.begin();
+ * Fraction result = calculate(args);
+ * event.finish(args, null);
+ * </pre>
+ *
+ * Only calculations slower than {@link CalculationEvent#DEFAULT_THRESHOLD} are recorded by default, since recording
+ * every one of them makes it several times slower. Lower the threshold to record them all, for instance with
+ * {@code -XX:StartFlightRecording:settings=profile,mx.jovannypcg.fc.Calculation#threshold=0ms}.
+ */
+@Name(CalculationEvent.NAME)
+@Label("Calculation")
+@Category("Fraction Calculator")
+@Description("Operation or expression computed by FractionCalculator")
+@Threshold(CalculationEvent.DEFAULT_THRESHOLD)
+public class CalculationEvent extends Event {
+    public static final String NAME = "mx.jovannypcg.fc.Calculation";
+    public static final String DEFAULT_THRESHOLD = "100 us";
+
+    @Label("Operator")
+    @Description("Operator of a single operation, null for expressions")
+    String operator;
+
+    @Label("First Operand Length")
+    @Description("Characters of the first operand of a single operation")
+    int firstOperandLength;
+
+    @Label("Second Operand Length")
+    @Description("Characters of the second operand of a single operation")
+    int secondOperandLength;
+
+    @Label("Expression Length")
+    @Description("Characters of the expression, 0 for single operations")
+    int expressionLength;
+
+    @Label("Outcome")
+    @Description("SUCCESS, or the ErrorCode of the failure")
+    String outcome;
+
+    /**
+     * Ends the event and commits it with the shape of {@code args}, if it is being recorded.
+     *
+     * @param args Arguments of the calculation, three for a single operation or the parts of an expression.
+     * @param failure Reason why the calculation failed, {@code null} if it succeeded.
+     */
+    public void finish(String[] args, ErrorCode failure) {
+        end();
+
+        if (!shouldCommit()) {
+            return;
+        }
+
+        if (args.length == ArgumentValidator.ARGUMENTS_ALLOWED) {
+            operator = args[1];
+            firstOperandLength = args[0].length();
+            secondOperandLength = args[2].length();
+        } else {
+            for (String arg : args) {
+                expressionLength += arg.length();
+            }
+
+            expressionLength += Math.max(args.length - 1, 0); // joined with spaces
+        }
+
+        outcome = failure == null ? "SUCCESS" : failure.name();
+        commit();
+    }
+}
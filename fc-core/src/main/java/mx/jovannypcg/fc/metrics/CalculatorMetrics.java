@@ -0,0 +1,215 @@
+package mx.jovannypcg.fc.metrics;
+
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms for every {@link Stage} of the calculations, and counters of failures by
+ * {@link ErrorCode}, which matches the reasons given by {@link mx.jovannypcg.fc.commons.Message}.
+ *
+ * Every stage is counted, but only one operation out of {@code samplingInterval} is timed, chosen at random, since
+ * reading the clock costs about as much as a simple operation. Timing is started with
+ * {@link CalculatorMetrics#start()} and every stage of the operation is recorded with
+ * {@link CalculatorMetrics#lap(Stage, long)}:
+ *
+ * <pre>
+ * long start = metrics.start();
+ * validate(args);
+ * start = metrics.lap(Stage.VALIDATE, start);
+ * parse(args);
+ * metrics.lap(Stage.PARSE, start);
+ * </pre>
+ *
+ * Recording is lock-free and safe from any number of threads.
+ */
+public class CalculatorMetrics {
+    public static final int DEFAULT_SAMPLING_INTERVAL = 128;
+
+    /** Returned by {@link CalculatorMetrics#start()} for operations which are only counted. */
+    public static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+
+    private final int samplingInterval;
+    private final LongAdder[] counts = new LongAdder[STAGES.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[STAGES.length];
+    private final LongAdder[] failures = new LongAdder[ERROR_CODES.length];
+
+    public CalculatorMetrics() {
+        this(DEFAULT_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * @param samplingInterval One out of how many operations is timed, 1 to time all of them.
+     */
+    public CalculatorMetrics(int samplingInterval) {
+        if (samplingInterval < 1) {
+            throw new IllegalArgumentException("Sampling interval must be positive, got " + samplingInterval);
+        }
+
+        this.samplingInterval = samplingInterval;
+
+        for (int i = 0; i < STAGES.length; i++) {
+            counts[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+
+        for (int i = 0; i < ERROR_CODES.length; i++) {
+            failures[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Decides whether the operation about to start is timed.
+     *
+     * @return Current time in nanoseconds if the operation is timed, {@link CalculatorMetrics#NOT_TIMED} if not.
+     */
+    public long start() {
+        if (samplingInterval > 1 && ThreadLocalRandom.current().nextInt(samplingInterval) != 0) {
+            return NOT_TIMED;
+        }
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Counts {@code stage} and, if the operation is timed, records the time elapsed since {@code start}.
+     *
+     * @param stage Stage which just finished.
+     * @param start Value returned by {@link CalculatorMetrics#start()} or by the previous lap.
+     * @return Start of the next stage, {@link CalculatorMetrics#NOT_TIMED} if the operation is not timed.
+     */
+    public long lap(Stage stage, long start) {
+        counts[stage.ordinal()].increment();
+
+        if (start == NOT_TIMED) {
+            return NOT_TIMED;
+        }
+
+        long now = System.nanoTime();
+        latencies[stage.ordinal()].record(now - start);
+        return now;
+    }
+
+    public void recordFailure(ErrorCode errorCode) {
+        failures[errorCode.ordinal()].increment();
+    }
+
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * @param stage Stage of the calculations.
+     * @return Number of times {@code stage} finished, timed or not.
+     */
+    public long getCount(Stage stage) {
+        return counts[stage.ordinal()].sum();
+    }
+
+    /**
+     * @param stage Stage of the calculations.
+     * @return Latencies of the timed operations only.
+     */
+    public LatencyHistogram getLatency(Stage stage) {
+        return latencies[stage.ordinal()];
+    }
+
+    /**
+     * @param errorCode Reason of the failures.
+     * @return Number of calculations which failed for {@code errorCode}.
+     */
+    public long getFailures(ErrorCode errorCode) {
+        return failures[errorCode.ordinal()].sum();
+    }
+
+    /**
+     * Sets every counter back to 0 and empties every histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < STAGES.length; i++) {
+            counts[i].reset();
+            latencies[i].reset();
+        }
+
+        for (LongAdder failure : failures) {
+            failure.reset();
+        }
+    }
+
+    /**
+     * Dumps the stages which were counted and the reasons which failed, one per line.
+     *
+     * @return Human readable metrics.
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder("Stages (1 out of ").append(samplingInterval).append(" timed):\n");
+
+        for (Stage stage : STAGES) {
+            long count = getCount(stage);
+
+            if (count > 0) {
+                text.append(String.format(Locale.ROOT, "  %-9s %d, %s\n", stage, count, getLatency(stage)));
+            }
+        }
+
+        text.append("Failures:\n");
+
+        for (ErrorCode errorCode : ERROR_CODES) {
+            long count = getFailures(errorCode);
+
+            if (count > 0) {
+                text.append("  ").append(errorCode).append(' ').append(count).append('\n');
+            }
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Dumps every stage and every reason of failure, with latencies in nanoseconds, for instance:
+     *
+     * <pre>
+     * {"samplingInterval":128,"stages":{"VALIDATE":{"count":10,"timed":1,"mean":52.0,"p50":52,"p90":52,
+     * "p99":52,"p999":52,"max":52},...},"failures":{"INVALID_INPUT":0,...}}
+     * </pre>
+     *
+     * @return Metrics as a single JSON object.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"samplingInterval\":").append(samplingInterval)
+                .append(",\"stages\":{");
+
+        for (int i = 0; i < STAGES.length; i++) {
+            LatencyHistogram latency = latencies[i];
+
+            json.append(i > 0 ? "," : "").append('"').append(STAGES[i]).append("\":{")
+                    .append("\"count\":").append(counts[i].sum())
+                    .append(",\"timed\":").append(latency.getCount())
+                    .append(",\"mean\":").append(String.format(Locale.ROOT, "%.1f", latency.getMean()))
+                    .append(",\"p50\":").append(latency.getValueAtPercentile(50))
+                    .append(",\"p90\":").append(latency.getValueAtPercentile(90))
+                    .append(",\"p99\":").append(latency.getValueAtPercentile(99))
+                    .append(",\"p999\":").append(latency.getValueAtPercentile(99.9))
+                    .append(",\"max\":").append(latency.getMax())
+                    .append('}');
+        }
+
+        json.append("},\"failures\":{");
+
+        for (int i = 0; i < ERROR_CODES.length; i++) {
+            json.append(i > 0 ? "," : "").append('"').append(ERROR_CODES[i]).append("\":").append(failures[i].sum());
+        }
+
+        return json.append("}}").toString();
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
@@ -0,0 +1,60 @@
+package mx.jovannypcg.fc.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import mx.jovannypcg.fc.domain.Fraction;
+
+/**
+ * JDK Flight Recorder event for every operation on {@code int} fractions whose result does not fit into an
+ * {@code int} and is promoted to a {@link mx.jovannypcg.fc.domain.BigFraction}, so the following operations on it
+ * are considerably slower.
+ */
+@Name(OverflowPromotionEvent.NAME)
+@Label("Overflow Promotion")
+@Category("Fraction Calculator")
+@Description("Result of an operation on int fractions promoted to a BigFraction")
+public class OverflowPromotionEvent extends Event {
+    public static final String NAME = "mx.jovannypcg.fc.OverflowPromotion";
+
+    @Label("Operator")
+    String operator;
+
+    @Label("First Operand Bits")
+    @Description("Bits of the largest of the numerator and denominator of the first operand")
+    int firstOperandBits;
+
+    @Label("Second Operand Bits")
+    @Description("Bits of the largest of the numerator and denominator of the second operand")
+    int secondOperandBits;
+
+    @Label("Result Bits")
+    @Description("Bits of the largest of the numerator and denominator of the result")
+    int resultBits;
+
+    /**
+     * Commits a promotion for {@code x operator y}, if the event is being recorded.
+     *
+     * @param operator One of {@code +}, {@code -}, {@code *} or {@code /}.
+     * @param x First operand of the operation.
+     * @param y Second operand of the operation.
+     * @param result Promoted result of the operation.
+     */
+    public static void emit(char operator, Fraction x, Fraction y, Fraction result) {
+        OverflowPromotionEvent event = new OverflowPromotionEvent();
+
+        if (event.isEnabled()) {
+            event.operator = String.valueOf(operator);
+            event.firstOperandBits = bitsOf(x);
+            event.secondOperandBits = bitsOf(y);
+            event.resultBits = bitsOf(result);
+            event.commit();
+        }
+    }
+
+    private static int bitsOf(Fraction fraction) {
+        return Math.max(fraction.getBigNumerator().bitLength(), fraction.getBigDenominator().bitLength());
+    }
+}
@@ -0,0 +1,48 @@
+package mx.jovannypcg.fc.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import mx.jovannypcg.fc.exception.ErrorCode;
+
+/**
+ * JDK Flight Recorder event for every operand which {@link mx.jovannypcg.fc.domain.Fraction} cannot parse.
+ * Operands longer than {@link ParseFailureEvent#MAX_OPERAND_LENGTH} are truncated.
+ */
+@Name(ParseFailureEvent.NAME)
+@Label("Parse Failure")
+@Category("Fraction Calculator")
+@Description("Operand which is not an integer, a simple fraction or a mixed fraction, or has 0 as denominator")
+public class ParseFailureEvent extends Event {
+    public static final String NAME = "mx.jovannypcg.fc.ParseFailure";
+    public static final int MAX_OPERAND_LENGTH = 64;
+
+    @Label("Operand")
+    String operand;
+
+    @Label("Operand Length")
+    int operandLength;
+
+    @Label("Reason")
+    @Description("ErrorCode of the failure")
+    String reason;
+
+    /**
+     * Commits a failure for {@code operand}, if the event is being recorded.
+     *
+     * @param operand Operand which cannot be parsed.
+     * @param reason Why it cannot be parsed.
+     */
+    public static void emit(String operand, ErrorCode reason) {
+        ParseFailureEvent event = new ParseFailureEvent();
+
+        if (event.isEnabled()) {
+            event.operand = operand.length() > MAX_OPERAND_LENGTH ? operand.substring(0, MAX_OPERAND_LENGTH) : operand;
+            event.operandLength = operand.length();
+            event.reason = reason.name();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package mx.jovannypcg.fc.metrics;
+
+/**
+ * Step of a calculation measured by {@link CalculatorMetrics}.
+ */
+public enum Stage {
+    /** Checking the shape of the arguments, see {@link mx.jovannypcg.fc.validator.ArgumentValidator}. */
+    VALIDATE,
+    /** Converting both operands into fractions. */
+    PARSE,
+    /** Applying the operator and simplifying the result, including {@link Stage#SIMPLIFY}. */
+    COMPUTE,
+    /** Simplifying the result of an operation into a simple or a mixed fraction. */
+    SIMPLIFY,
+    /** Parsing and evaluating an expression with any number of operands. */
+    EVALUATE,
+    /** Writing a result as output. */
+    FORMAT
+}
@@ -0,0 +1,123 @@
+package mx.jovannypcg.fc.parser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Counterpart of {@link OperandScanner} for ASCII bytes, so input read from files or sockets can be parsed
+ * without decoding it into {@code String}s first.
+ *
+ * An operand starts at the given position, after any spaces or tabs, and spans every following byte which is a
+ * digit, {@code -}, {@code _} or {@code /}. The operand is then validated and converted exactly as
+ * {@link OperandScanner#scan(CharSequence)} does, and {@link ByteOperandScanner#position()} is left right after
+ * it, whether it is valid or not, so the next operand or operator can be scanned from there. The bytes are read
+ * through a {@link CharSequence} view by the same code as {@link OperandScanner}, so the grammar cannot drift.
+ *
+ * Instances keep the position of the last scan, so they must not be shared across threads. Reusing them does
+ * not allocate any object.
+ */
+public class ByteOperandScanner {
+    private final ByteView view = new ByteView();
+    private ByteBuffer wrapped = ByteBuffer.allocate(0);
+    private int start;
+    private int position;
+
+    /**
+     * Scans the operand found in {@code bytes} from {@code offset}, without going past {@code offset + length}.
+     *
+     * @param bytes ASCII bytes.
+     * @param offset Index to start scanning at.
+     * @param length Number of bytes available from {@code offset}.
+     * @return The packed simple fraction, not reduced, or {@link OperandScanner#NOT_A_FRACTION} if the operand
+     *         is not valid or any of its numbers does not fit into an {@code int}. Operands with 0 as denominator
+     *         are returned as they are.
+     */
+    public long scan(byte[] bytes, int offset, int length) {
+        if (!wrapped.hasArray() || wrapped.array() != bytes) {
+            wrapped = ByteBuffer.wrap(bytes);
+        }
+
+        return scan(wrapped, offset, offset + length);
+    }
+
+    /**
+     * Scans the operand found in {@code buffer} between its position and its limit, then moves the position of
+     * {@code buffer} right after the operand. Works with heap and direct buffers alike.
+     *
+     * @param buffer ASCII bytes.
+     * @return Same as {@link ByteOperandScanner#scan(byte[], int, int)}.
+     */
+    public long scan(ByteBuffer buffer) {
+        long fraction = scan(buffer, buffer.position(), buffer.limit());
+        buffer.position(position);
+        return fraction;
+    }
+
+    /**
+     * @return Index of the first byte of the last operand scanned, after any spaces or tabs.
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * @return Index right after the last operand scanned.
+     */
+    public int position() {
+        return position;
+    }
+
+    private long scan(ByteBuffer bytes, int from, int to) {
+        while (from < to && (bytes.get(from) == ' ' || bytes.get(from) == '\t')) {
+            from++;
+        }
+
+        int end = from;
+        while (end < to && isOperandByte(bytes.get(end))) {
+            end++;
+        }
+
+        start = from;
+        position = end;
+
+        view.bytes = bytes;
+        return OperandScanner.scan(view, from, end);
+    }
+
+    private static boolean isOperandByte(byte b) {
+        return (b >= '0' && b <= '9') || b == '-' || b == '_' || b == '/';
+    }
+
+    /**
+     * Reusable view of ASCII bytes as chars, indexed like the buffer it wraps. Bytes above 127 become chars which
+     * are neither digits nor separators, so they are rejected.
+     */
+    private static final class ByteView implements CharSequence {
+        private ByteBuffer bytes;
+
+        @Override
+        public int length() {
+            return bytes.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder chars = new StringBuilder(length());
+
+            for (int i = 0; i < length(); i++) {
+                chars.append(charAt(i));
+            }
+
+            return chars.toString();
+        }
+    }
+}
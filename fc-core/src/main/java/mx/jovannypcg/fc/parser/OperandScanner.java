@@ -0,0 +1,156 @@
+package mx.jovannypcg.fc.parser;
+
+import mx.jovannypcg.fc.domain.PackedFraction;
+
+/**
+ * Hand-written scanner for operands with shape {@code -?<digits>(_<digits>/<digits>)?(/<digits>)?}, in
+ * other words integers, simple fractions and mixed fractions like 3, -1/2 or 4_1/2.
+ *
+ * Operands are validated and converted in a single left to right pass over their chars, without
+ * regular expressions or intermediate strings. The result is a simple fraction packed into a {@code long}
+ * as described by {@link PackedFraction}, it is not reduced.
+ */
+public class OperandScanner {
+    public static final int INVALID = 0;
+    public static final int INTEGER = 1;
+    public static final int SIMPLE_FRACTION = 2;
+    public static final int MIXED_FRACTION = 3;
+
+    /**
+     * Returned by {@link OperandScanner#scan(CharSequence)} when the operand is not valid. It cannot be confused with
+     * a valid result since its denominator would be -1, and denominators are never negative.
+     */
+    public static final long NOT_A_FRACTION = -1L;
+
+    static final long MAX_MAGNITUDE = Integer.MAX_VALUE + 1L;
+
+    static final int WHOLE_NUMBER = 0;
+    static final int MIXED_NUMERATOR = 1;
+    static final int DENOMINATOR = 2;
+    static final int MIXED_DENOMINATOR = 3;
+
+    /**
+     * Identifies the shape of {@code operand}, checking its syntax only.
+     *
+     * @param operand Operand to inspect.
+     * @return One of {@link OperandScanner#INTEGER}, {@link OperandScanner#SIMPLE_FRACTION},
+     *         {@link OperandScanner#MIXED_FRACTION} or {@link OperandScanner#INVALID}.
+     */
+    public static int shapeOf(CharSequence operand) {
+        int length = operand.length();
+        int start = length > 0 && operand.charAt(0) == '-' ? 1 : 0;
+        int end = skipDigits(operand, start);
+
+        if (end == start) return INVALID;
+        if (end == length) return INTEGER;
+
+        char separator = operand.charAt(end);
+        start = end + 1;
+        end = skipDigits(operand, start);
+
+        if (end == start) return INVALID;
+        if (separator == '/') return end == length ? SIMPLE_FRACTION : INVALID;
+        if (separator != '_' || end == length || operand.charAt(end) != '/') return INVALID;
+
+        start = end + 1;
+        end = skipDigits(operand, start);
+
+        return end > start && end == length ? MIXED_FRACTION : INVALID;
+    }
+
+    /**
+     * Validates and converts {@code operand} into a simple fraction in a single pass.
+     * Integers become {@code n/1} and mixed fractions {@code w_n/d} become {@code (w * d + n)/d}.
+     *
+     * @param operand Operand to scan.
+     * @return The packed simple fraction, or {@link OperandScanner#NOT_A_FRACTION} if the operand is not valid
+     *         or any of its numbers does not fit into an {@code int}.
+     */
+    public static long scan(CharSequence operand) {
+        return scan(operand, 0, operand.length());
+    }
+
+    /**
+     * The single implementation of the grammar, shared with {@link ByteOperandScanner} through a view of its
+     * bytes, so both scanners accept exactly the same operands.
+     *
+     * @param operand Chars holding the operand.
+     * @param from Index of the first char of the operand.
+     * @param to Index right after the last char of the operand.
+     * @return Same as {@link OperandScanner#scan(CharSequence)}.
+     */
+    static long scan(CharSequence operand, int from, int to) {
+        boolean negative = from < to && operand.charAt(from) == '-';
+        int state = WHOLE_NUMBER;
+        int digits = 0;
+        long current = 0;
+        long first = 0;
+        long second = 0;
+
+        for (int i = negative ? from + 1 : from; i < to; i++) {
+            char c = operand.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                current = current * 10 + (c - '0');
+                if (current > MAX_MAGNITUDE) return NOT_A_FRACTION;
+
+                digits++;
+                continue;
+            }
+
+            if (digits == 0) {
+                return NOT_A_FRACTION;
+            } else if (c == '/' && state == WHOLE_NUMBER) {
+                first = current;
+                state = DENOMINATOR;
+            } else if (c == '_' && state == WHOLE_NUMBER) {
+                first = current;
+                state = MIXED_NUMERATOR;
+            } else if (c == '/' && state == MIXED_NUMERATOR) {
+                second = current;
+                state = MIXED_DENOMINATOR;
+            } else {
+                return NOT_A_FRACTION;
+            }
+
+            current = 0;
+            digits = 0;
+        }
+
+        if (digits == 0) {
+            return NOT_A_FRACTION;
+        }
+
+        switch (state) {
+            case WHOLE_NUMBER:
+                return packWithinRange(negative ? -current : current, 1);
+            case DENOMINATOR:
+                return packWithinRange(negative ? -first : first, current);
+            case MIXED_DENOMINATOR:
+                if (second > Integer.MAX_VALUE) return NOT_A_FRACTION;
+
+                long wholeNumber = negative ? -first : first;
+                return packWithinRange(wholeNumber * current + second, current);
+            default:
+                return NOT_A_FRACTION;
+        }
+    }
+
+    static long packWithinRange(long numerator, long denominator) {
+        if (numerator < Integer.MIN_VALUE || numerator > Integer.MAX_VALUE || denominator > Integer.MAX_VALUE) {
+            return NOT_A_FRACTION;
+        }
+
+        return PackedFraction.pack((int) numerator, (int) denominator);
+    }
+
+    private static int skipDigits(CharSequence operand, int from) {
+        int i = from;
+
+        while (i < operand.length() && operand.charAt(i) >= '0' && operand.charAt(i) <= '9') {
+            i++;
+        }
+
+        return i;
+    }
+}
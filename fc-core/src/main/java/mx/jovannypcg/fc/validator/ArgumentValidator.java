@@ -0,0 +1,109 @@
+package mx.jovannypcg.fc.validator;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.parser.OperandScanner;
+
+/**
+ * Provides methos to validate the incoming arguments for the application, like the size of the arguments,
+ * the operator and operands.
+ */
+public class ArgumentValidator {
+    public static final int ARGUMENTS_ALLOWED = 3;
+    private static final String OPERATORS = "+-*/";
+
+    /**
+     * Validates the incoming arguments according to {@link ArgumentValidator#validateArguments(String...)}.
+     *
+     * @param args Arguments to validate.
+     * @throws CalculatorException If anything goes wrong while validating the arguments.
+     */
+    public void validate(String... args) throws CalculatorException {
+        validateArguments(args);
+    }
+
+    /**
+     * Exception-free counterpart of {@link ArgumentValidator#validate(String...)}, meant for bulk paths where
+     * invalid arguments are expected.
+     *
+     * @param args Arguments to validate.
+     * @return {@code null} if the arguments are valid, otherwise the failure, without a stack trace and with the
+     *         first offending argument as operand.
+     */
+    public CalculatorException check(String... args) {
+        if (args.length != ARGUMENTS_ALLOWED) {
+            return CalculatorException.withoutStackTrace(ErrorCode.BAD_ARGUMENT_SIZE, null,
+                    Message.badArgumentSize(ARGUMENTS_ALLOWED));
+        }
+
+        // 3 arguments at this point
+        String x = args[0];
+        String operator = args[1];
+        String y = args[2];
+        String offending = !isValidOperand(x) ? x
+                : !isValidOperator(operator) ? operator
+                : !isValidOperand(y) ? y
+                : null;
+
+        return offending == null
+                ? null
+                : CalculatorException.withoutStackTrace(ErrorCode.BAD_ORDER_OR_FORMAT, offending,
+                        Message.badOrderOrFormat());
+    }
+
+    /**
+     * Tells apart an operation from an expression which happens to be split into three arguments, such as
+     * {@code 1/2 * (2-1/3)}, checking the shape of the arguments only.
+     *
+     * @param args Arguments to inspect.
+     * @return {@code true} if {@code args} are an operand, an operator and an operand. {@code false} otherwise.
+     */
+    public static boolean isOperation(String... args) {
+        return args.length == ARGUMENTS_ALLOWED
+                && OperandScanner.shapeOf(args[0]) != OperandScanner.INVALID
+                && args[1].length() == 1 && OPERATORS.indexOf(args[1].charAt(0)) >= 0
+                && OperandScanner.shapeOf(args[2]) != OperandScanner.INVALID;
+    }
+
+    /**
+     * Verifies the order of the arguments is {@code <operand> <operator> <operand>} and
+     * that the "operands" are valid according to #isValidOperand.
+     */
+    protected void validateArguments(String... args) throws CalculatorException {
+        validateSize(args);
+
+        CalculatorException failure = check(args);
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    protected void validateSize(String... args) throws CalculatorException {
+        if (args.length != ARGUMENTS_ALLOWED) {
+            throw new CalculatorException(ErrorCode.BAD_ARGUMENT_SIZE, null,
+                    Message.badArgumentSize(ARGUMENTS_ALLOWED));
+        }
+    }
+
+    /**
+     * Verifies the given String is a valid operator by validating its structure.
+     *
+     * @param operator String to validate.
+     * @return {@code true} if the incoming String is a valid operator. {@code false} otherwise.
+     */
+    protected boolean isValidOperator(String operator) {
+        return operator.length() == 1 && OPERATORS.indexOf(operator.charAt(0)) >= 0;
+    }
+
+    /**
+     * Verifies the given String is a valid operand by validating its structure with {@link OperandScanner}.
+     *
+     * @param strOperand String to validate.
+     * @return {@code true} if the incoming String is a valid operand. {@code false} otherwise.
+     */
+    protected boolean isValidOperand(String strOperand) {
+        return OperandScanner.shapeOf(strOperand) != OperandScanner.INVALID;
+    }
+}
@@ -0,0 +1,132 @@
+package mx.jovannypcg.fc.aggregate;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class FractionAccumulatorTests {
+    private final FractionCalculator fractionCalculator = new FractionCalculator(new ArgumentValidator());
+    private final FractionAccumulator fractionAccumulator = new FractionAccumulator(fractionCalculator);
+
+    @Test
+    public void total_shouldReturnZeroWhenNothingWasAdded() {
+        assertThat(fractionAccumulator.total()).isEqualTo(Fraction.with(0, 1));
+    }
+
+    @Test
+    public void total_shouldReturnReducedSum() {
+        fractionAccumulator.add(Fraction.with(1, 4))
+                .add(Fraction.with(1, 4))
+                .add(Fraction.with(3, 8))
+                .add(2, -8)
+                .add(MixedFraction.with(1, 1, 2));
+
+        assertThat(fractionAccumulator.total()).isEqualTo(Fraction.with(17, 8));
+    }
+
+    @Test
+    public void total_shouldKeepAccumulating() {
+        fractionAccumulator.add(1, 2);
+        assertThat(fractionAccumulator.total()).isEqualTo(Fraction.with(1, 2));
+
+        fractionAccumulator.add(1, 3);
+        assertThat(fractionAccumulator.total()).isEqualTo(Fraction.with(5, 6));
+    }
+
+    @Test
+    public void total_shouldMatchFractionCalculatorForManyDenominators() {
+        Random random = new Random(42);
+        Fraction expected = Fraction.with(0, 1);
+
+        for (int i = 0; i < 10_000; i++) {
+            Fraction fraction = Fraction.with(random.nextInt(2_001) - 1_000,
+                    random.nextInt(2 * FractionAccumulator.MAX_BUCKETS) + 1);
+
+            expected = fractionCalculator.add(expected, fraction);
+            fractionAccumulator.add(fraction);
+        }
+
+        assertThat(fractionAccumulator.total()).isEqualTo(expected);
+    }
+
+    @Test
+    public void add_shouldSumLargeNumeratorsExactly() {
+        for (int i = 0; i < 10; i++) {
+            fractionAccumulator.add(Integer.MAX_VALUE, 3);
+        }
+
+        for (int i = 0; i < 1 << 20; i++) {
+            fractionAccumulator.add(Integer.MAX_VALUE, 1 << 30);
+        }
+
+        BigInteger max = BigInteger.valueOf(Integer.MAX_VALUE);
+        Fraction expected = Fraction.with(max.multiply(BigInteger.TEN), BigInteger.valueOf(3));
+        expected = fractionCalculator.add(expected, Fraction.with(max.shiftLeft(20), BigInteger.ONE.shiftLeft(30)));
+
+        assertThat(fractionAccumulator.total()).isEqualTo(expected);
+    }
+
+    @Test
+    public void mustFlush_shouldFlushOverflowsAndLongMinValue() {
+        long nearMin = Long.MIN_VALUE - Integer.MIN_VALUE;
+
+        assertThat(FractionAccumulator.mustFlush(nearMin, Integer.MIN_VALUE, nearMin + Integer.MIN_VALUE)).isTrue();
+        assertThat(FractionAccumulator.mustFlush(nearMin, Integer.MIN_VALUE - 1L, nearMin + Integer.MIN_VALUE - 1L))
+                .isTrue();
+        assertThat(FractionAccumulator.mustFlush(Long.MAX_VALUE, 1, Long.MAX_VALUE + 1)).isTrue();
+        assertThat(FractionAccumulator.mustFlush(nearMin, Integer.MIN_VALUE + 1L, nearMin + Integer.MIN_VALUE + 1L))
+                .isFalse();
+    }
+
+    @Test
+    public void add_shouldAddBigFractionsDirectly() {
+        Fraction big = Fraction.with(BigInteger.valueOf(Long.MAX_VALUE), BigInteger.valueOf(2));
+
+        fractionAccumulator.add(big).add(1, 2);
+
+        BigInteger sum = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+
+        assertThat(fractionAccumulator.total()).isEqualTo(Fraction.with(sum, BigInteger.valueOf(2)));
+    }
+
+    @Test
+    public void add_shouldAddMixedFractionsLargerThanAnIntDirectly() {
+        MixedFraction large = MixedFraction.with(100000, 1, 30000);
+
+        fractionAccumulator.add(large).add(MixedFraction.with(-1, 1, 2));
+
+        assertThat(fractionAccumulator.total())
+                .isEqualTo(fractionCalculator.add(fractionCalculator.reduce(large), Fraction.with(-3, 2)));
+    }
+
+    @Test
+    public void add_shouldThrowExceptionWithZeroDenominator() {
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> fractionAccumulator.add(1, 0));
+    }
+
+    @Test
+    public void merge_shouldAddTotalOfOtherAccumulator() {
+        FractionAccumulator other = new FractionAccumulator(fractionCalculator).add(1, 3);
+
+        fractionAccumulator.add(1, 2).merge(other);
+
+        assertThat(fractionAccumulator.total()).isEqualTo(Fraction.with(5, 6));
+        assertThat(other.total()).isEqualTo(Fraction.with(1, 3));
+    }
+
+    @Test
+    public void reset_shouldForgetEverything() {
+        fractionAccumulator.add(1, 2).add(Fraction.with(BigInteger.TEN.pow(20), BigInteger.ONE));
+        fractionAccumulator.reset();
+
+        assertThat(fractionAccumulator.total()).isEqualTo(Fraction.with(0, 1));
+    }
+}
@@ -0,0 +1,89 @@
+package mx.jovannypcg.fc.aggregate;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.BigFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FractionAggregatorTests {
+    private final FractionCalculator fractionCalculator = new FractionCalculator(new ArgumentValidator());
+    private final FractionAggregator fractionAggregator = new FractionAggregator(fractionCalculator);
+
+    @Test
+    public void sum_shouldAddAllFractions() {
+        Fraction sum = fractionAggregator.sum(Fraction.with(1, 2), Fraction.with(1, 3), Fraction.with(1, 6));
+
+        assertThat(sum).isEqualTo(Fraction.with(1, 1));
+    }
+
+    @Test
+    public void sum_shouldReturnZeroForNoFractions() {
+        assertThat(fractionAggregator.sum()).isEqualTo(Fraction.with(0, 1));
+        assertThat(fractionAggregator.product(Collections.emptyList())).isEqualTo(Fraction.with(1, 1));
+    }
+
+    @Test
+    public void sum_shouldConvertMixedFractions() {
+        Fraction sum = fractionAggregator.sum(MixedFraction.with(1, 1, 2), Fraction.with(1, 2));
+
+        assertThat(sum).isEqualTo(Fraction.with(2, 1));
+    }
+
+    @Test
+    public void sum_shouldMatchSequentialFoldAcrossManyTasks() {
+        Fraction[] fractions = IntStream.rangeClosed(1, 10 * FractionAggregator.THRESHOLD)
+                .mapToObj(i -> Fraction.with(i % 7 - 3, 1 << (i % 5)))
+                .toArray(Fraction[]::new);
+        Fraction expected = Fraction.with(0, 1);
+
+        for (Fraction fraction : fractions) {
+            expected = fractionCalculator.add(expected, fraction);
+        }
+
+        assertThat(fractionAggregator.sum(fractions)).isEqualTo(expected);
+        assertThat(fractionAggregator.sum(Arrays.asList(fractions))).isEqualTo(expected);
+        assertThat(Arrays.stream(fractions).parallel().collect(fractionAggregator.summing())).isEqualTo(expected);
+    }
+
+    @Test
+    public void sum_shouldAddHarmonicSeriesExactly() {
+        Fraction[] fractions = IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> Fraction.with(1, i))
+                .toArray(Fraction[]::new);
+
+        Fraction sum = fractionAggregator.sum(fractions);
+
+        assertThat(sum).isInstanceOf(BigFraction.class);
+        assertThat(sum.getBigNumerator()).isEqualTo(new BigInteger("14466636279520351160221518043104131447711"));
+        assertThat(sum.getBigDenominator()).isEqualTo(new BigInteger("2788815009188499086581352357412492142272"));
+    }
+
+    @Test
+    public void product_shouldMultiplyAllFractions() {
+        Fraction[] fractions = IntStream.rangeClosed(1, 3 * FractionAggregator.THRESHOLD)
+                .mapToObj(i -> Fraction.with(i + 1, i))
+                .toArray(Fraction[]::new);
+
+        Fraction product = fractionAggregator.product(fractions);
+
+        assertThat(product).isEqualTo(Fraction.with(3 * FractionAggregator.THRESHOLD + 1, 1));
+    }
+
+    @Test
+    public void multiplying_shouldCollectProductOfStream() {
+        Fraction product = Stream.of(Fraction.with(2, 3), Fraction.with(-3, 4), MixedFraction.with(0, 1, 2))
+                .collect(fractionAggregator.multiplying());
+
+        assertThat(product).isEqualTo(Fraction.with(-1, 4));
+    }
+}
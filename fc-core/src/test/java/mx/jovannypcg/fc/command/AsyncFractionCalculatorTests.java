@@ -0,0 +1,168 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.Assume.assumeTrue;
+
+public class AsyncFractionCalculatorTests {
+    private static final String[] OPERATORS = { "+", "-", "*", "/" };
+
+    private final FractionCalculator fractionCalculator = new FractionCalculator(new ArgumentValidator());
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final AsyncFractionCalculator asyncFractionCalculator =
+            new AsyncFractionCalculator(fractionCalculator, executor);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void performAsync_shouldCompleteWithResult() throws Exception {
+        Fraction result = asyncFractionCalculator.performAsync("1/2", "+", "3_3/4").get();
+
+        assertThat(result.toString()).isEqualTo("4_1/4");
+    }
+
+    @Test
+    public void performAsync_shouldCompleteExceptionallyForInvalidArguments() {
+        CompletableFuture<Fraction> future = asyncFractionCalculator.performAsync("1/2", "+", "1/0");
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(future::get)
+                .withCauseInstanceOf(CalculatorException.class);
+    }
+
+    @Test
+    public void performAll_shouldKeepOrderOfOperations() throws Exception {
+        List<String[]> operations = randomOperations(10_000);
+
+        List<FractionResult> results = asyncFractionCalculator.performAll(operations).get();
+
+        assertThat(results).hasSize(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            assertThat(results.get(i).getValue()).isEqualTo(fractionCalculator.perform(operations.get(i)));
+        }
+    }
+
+    @Test
+    public void performAll_shouldCollectInOrderWithBoundedWindow() throws CalculatorException {
+        List<String[]> operations = randomOperations(10_000);
+        operations.set(5, new String[] { "1/2", "+", "a" });
+        List<FractionResult> results = new ArrayList<>();
+
+        asyncFractionCalculator.performAll(operations.iterator(), 64, results::add);
+
+        assertThat(results).hasSize(operations.size());
+        assertThat(results.get(5).getErrorCode()).isEqualTo(ErrorCode.BAD_ORDER_OR_FORMAT);
+        for (int i = 6; i < operations.size(); i++) {
+            assertThat(results.get(i).getValue()).isEqualTo(fractionCalculator.perform(operations.get(i)));
+        }
+    }
+
+    @Test
+    public void performAll_shouldRejectNonPositiveWindow() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+                asyncFractionCalculator.performAll(Arrays.<String[]>asList().iterator(), 0, result -> { }));
+    }
+
+    @Test
+    public void fractionCalculator_shouldBeSafeToShareAcrossThreads() throws Exception {
+        List<String[]> operations = randomOperations(2_000);
+        List<Fraction> expected = new ArrayList<>();
+
+        for (String[] args : operations) {
+            expected.add(fractionCalculator.perform(args));
+        }
+
+        List<CompletableFuture<Boolean>> rounds = new ArrayList<>();
+
+        for (int round = 0; round < 32; round++) {
+            rounds.add(CompletableFuture.supplyAsync(() -> {
+                boolean consistent = true;
+
+                for (int i = 0; i < operations.size(); i++) {
+                    consistent &= expected.get(i).equals(fractionCalculator.tryPerform(operations.get(i)).getValue());
+                }
+
+                return consistent;
+            }, executor));
+        }
+
+        for (CompletableFuture<Boolean> round : rounds) {
+            assertThat(round.get()).isTrue();
+        }
+    }
+
+    @Test
+    public void performAll_shouldScaleWithThreads() {
+        int threads = 4;
+        assumeTrue("Needs " + threads + " processors", Runtime.getRuntime().availableProcessors() >= threads);
+
+        List<String[]> operations = randomOperations(100_000);
+        ExecutorService singlePool = Executors.newSingleThreadExecutor();
+        ExecutorService parallelPool = Executors.newFixedThreadPool(threads);
+
+        try {
+            AsyncFractionCalculator single = new AsyncFractionCalculator(fractionCalculator, singlePool);
+            AsyncFractionCalculator parallel = new AsyncFractionCalculator(fractionCalculator, parallelPool);
+            long singleTime = Long.MAX_VALUE;
+            long parallelTime = Long.MAX_VALUE;
+
+            // alternated, so both are measured once the code is compiled, keeping the best of the last runs
+            for (int run = 0; run < 10; run++) {
+                long singleRun = time(single, operations);
+                long parallelRun = time(parallel, operations);
+
+                if (run >= 3) {
+                    singleTime = Math.min(singleTime, singleRun);
+                    parallelTime = Math.min(parallelTime, parallelRun);
+                }
+            }
+
+            // far below the ideal speedup, so the check holds on busy machines
+            assertThat(singleTime).isGreaterThan(parallelTime * 3 / 2);
+        } finally {
+            singlePool.shutdownNow();
+            parallelPool.shutdownNow();
+        }
+    }
+
+    private static long time(AsyncFractionCalculator calculator, List<String[]> operations) {
+        long start = System.nanoTime();
+        calculator.performAll(operations).join();
+        return System.nanoTime() - start;
+    }
+
+    private static List<String[]> randomOperations(int size) {
+        Random random = new Random(42);
+        List<String[]> operations = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            operations.add(new String[] {
+                    (random.nextInt(199) - 99) + "/" + (random.nextInt(99) + 1),
+                    OPERATORS[random.nextInt(OPERATORS.length)],
+                    random.nextInt(9) + "_" + (random.nextInt(99) + 1) + "/" + (random.nextInt(99) + 1)
+            });
+        }
+
+        return operations;
+    }
+}
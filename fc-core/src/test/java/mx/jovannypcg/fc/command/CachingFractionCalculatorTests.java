@@ -0,0 +1,80 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingFractionCalculatorTests {
+    private final CachingFractionCalculator fractionCalculator =
+            new CachingFractionCalculator(new ArgumentValidator(), 100);
+
+    @Test
+    public void perform_shouldReturnCachedResult() throws CalculatorException {
+        Fraction first = fractionCalculator.perform("1/2", "+", "3_3/4");
+        Fraction second = fractionCalculator.perform("1/2", "+", "3_3/4");
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.toString()).isEqualTo("4_1/4");
+        assertThat(fractionCalculator.getCache().getHits()).isEqualTo(1);
+        assertThat(fractionCalculator.getCache().getMisses()).isEqualTo(2); // by arguments, then by operands
+    }
+
+    @Test
+    public void perform_shouldNotValidateArgumentsWhichAreCached() throws CalculatorException {
+        ArgumentValidator argumentValidator = spy(new ArgumentValidator());
+        FractionCalculator calculator = new CachingFractionCalculator(argumentValidator, 100);
+
+        for (int i = 0; i < 3; i++) {
+            calculator.perform("1/2", "+", "3_3/4");
+            calculator.tryPerform("1/2", "-", "3_3/4");
+        }
+
+        verify(argumentValidator, times(1)).validate("1/2", "+", "3_3/4");
+        verify(argumentValidator, times(1)).check("1/2", "-", "3_3/4");
+    }
+
+    @Test
+    public void perform_shouldShareEntryForEquivalentOperands() throws CalculatorException {
+        fractionCalculator.perform("1/2", "*", "3");
+        fractionCalculator.perform("2/4", "*", "3_0/1");
+        fractionCalculator.tryPerform("3/6", "*", "6/2");
+
+        assertThat(fractionCalculator.getCache().getHits()).isEqualTo(2);
+        assertThat(fractionCalculator.getCache().size()).isEqualTo(4); // one entry per arguments, one per operands
+    }
+
+    @Test
+    public void perform_shouldDistinguishOperators() throws CalculatorException {
+        assertThat(fractionCalculator.perform("1/2", "+", "1/4").toString()).isEqualTo("3/4");
+        assertThat(fractionCalculator.perform("1/2", "-", "1/4").toString()).isEqualTo("1/4");
+        assertThat(fractionCalculator.perform("1/4", "-", "1/2").toString()).isEqualTo("-1/4");
+    }
+
+    @Test
+    public void perform_shouldStillRejectInvalidArguments() {
+        assertThatExceptionOfType(CalculatorException.class)
+                .isThrownBy(() -> fractionCalculator.perform("1/2", "+", "1/0"));
+
+        FractionResult result = fractionCalculator.tryPerform("1/2", "+", "a");
+
+        assertThat(result.getErrorCode()).isEqualTo(ErrorCode.BAD_ORDER_OR_FORMAT);
+        assertThat(fractionCalculator.getCache().size()).isZero();
+    }
+
+    @Test
+    public void create_shouldDisableCacheForZeroSize() {
+        assertThat(CachingFractionCalculator.create(new ArgumentValidator(), 0))
+                .isExactlyInstanceOf(FractionCalculator.class);
+        assertThat(CachingFractionCalculator.create(new ArgumentValidator(), 10))
+                .isInstanceOf(CachingFractionCalculator.class);
+    }
+}
@@ -0,0 +1,452 @@
+package mx.jovannypcg.fc.command;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.BigFraction;
+import mx.jovannypcg.fc.domain.BigMixedFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doThrow;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FractionCalculatorTests {
+    private Fraction[] xs; // First operand
+    private Fraction[] ys; // Second operand
+
+    @Mock
+    private ArgumentValidator argumentValidator;
+    private FractionCalculator fractionCalculator;
+
+    @Before
+    public void init() {
+        xs = new Fraction[]{
+                Fraction.with(2, 3),
+                Fraction.with(17, 11),
+                Fraction.with(-11, 8),
+                Fraction.with(8, 9),
+                Fraction.with(-9, 3) };
+
+        ys = new Fraction[]{
+                Fraction.with(9, 11),
+                Fraction.with(-3, 15),
+                Fraction.with(-11, 8),
+                Fraction.with(9, 8),
+                Fraction.with(7, 3) };
+
+        fractionCalculator = new FractionCalculator(argumentValidator);
+    }
+
+    @Test
+    public void add_shouldReturnExpectedResults() {
+        Fraction[] addResults = new Fraction[] {
+                Fraction.with(49, 33),
+                Fraction.with(222, 165),
+                Fraction.with(-22, 8),
+                Fraction.with(145, 72),
+                Fraction.with(-2, 3),
+        };
+
+        for (int i = 0; i < xs.length; i++) { // or ys.length
+            Fraction addResult = fractionCalculator.add(xs[i], ys[i]);
+
+            assertThat(addResult).isEqualTo(addResults[i]);
+        }
+    }
+
+    @Test
+    public void subtract_shouldReturnExpectedResults() {
+        Fraction[] addResults = new Fraction[] {
+                Fraction.with(-5, 33),
+                Fraction.with(288, 165),
+                Fraction.with(0, 8),
+                Fraction.with(-17, 72),
+                Fraction.with(-16, 3),
+        };
+
+        for (int i = 0; i < xs.length; i++) { // or ys.length
+            Fraction addResult = fractionCalculator.subtract(xs[i], ys[i]);
+
+            assertThat(addResult).isEqualTo(addResults[i]);
+        }
+    }
+
+    @Test
+    public void multiply_shouldReturnExpectedResults() {
+        Fraction[] addResults = new Fraction[] {
+                Fraction.with(6, 11),
+                Fraction.with(-51, 165),
+                Fraction.with(121, 64),
+                Fraction.with(1, 1),
+                Fraction.with(-21, 3),
+        };
+
+        for (int i = 0; i < xs.length; i++) { // or ys.length
+            Fraction addResult = fractionCalculator.multiply(xs[i], ys[i]);
+
+            assertThat(addResult).isEqualTo(addResults[i]);
+        }
+    }
+
+    @Test
+    public void divide_shouldReturnExpectedResults() {
+        Fraction[] addResults = new Fraction[] {
+                Fraction.with(22, 27),
+                Fraction.with(-255, 33),
+                Fraction.with(1, 1),
+                Fraction.with(64, 81),
+                Fraction.with(-9, 7),
+        };
+
+        for (int i = 0; i < xs.length; i++) { // or ys.length
+            Fraction addResult = fractionCalculator.divide(xs[i], ys[i]);
+
+            assertThat(addResult).isEqualTo(addResults[i]);
+        }
+    }
+
+    @Test
+    public void greatestCommonFactor_shouldReturnOneIfNoCommonFactor() {
+        int a = 3;
+        int b = 2;
+
+        assertThat(fractionCalculator.greatestCommonFactor(a, b)).isEqualTo(1);
+    }
+
+    @Test
+    public void greatestCommonFactor_shouldReturnCommonFactor() {
+        int a = 121;
+        int b = 11;
+
+        assertThat(fractionCalculator.greatestCommonFactor(a, b)).isEqualTo(11);
+    }
+
+    @Test
+    public void greatestCommonFactor_shouldReturnAbsoluteCommonFactor() {
+        int a = -1;
+        int b = 3;
+
+        assertThat(fractionCalculator.greatestCommonFactor(a, b)).isEqualTo(1);
+    }
+
+    @Test
+    public void greatestCommonFactor_shouldHandleZeroAndPowersOfTwo() {
+        assertThat(fractionCalculator.greatestCommonFactor(0, 7)).isEqualTo(7);
+        assertThat(fractionCalculator.greatestCommonFactor(-12, 0)).isEqualTo(12);
+        assertThat(fractionCalculator.greatestCommonFactor(96, -64)).isEqualTo(32);
+        assertThat(fractionCalculator.greatestCommonFactor(1 << 30, 3 << 20)).isEqualTo(1 << 20);
+    }
+
+    @Test
+    public void multiply_shouldCrossReduceBeforeMultiplying() {
+        Fraction x = Fraction.with(65536, 46341);
+        Fraction y = Fraction.with(46341, 65536);
+
+        Fraction result = fractionCalculator.multiply(x, y);
+
+        assertThat(result).isNotInstanceOf(BigFraction.class).isEqualTo(Fraction.with(1, 1));
+    }
+
+    @Test
+    public void add_shouldUseLeastCommonMultipleOfDenominators() {
+        Fraction result = fractionCalculator.add(Fraction.with(1, 6), Fraction.with(1, 4));
+
+        assertThat(result).isEqualTo(Fraction.with(5, 12));
+    }
+
+    @Test
+    public void simplify_shouldReturnSameFractionIfProperFraction() {
+        List<Fraction> properFractions = List.of(Fraction.with(1, 2),
+                Fraction.with(3, 4),
+                Fraction.with(-1, 3));
+
+        properFractions.forEach(fraction -> {
+            assertThat(fractionCalculator.simplify(fraction)).isEqualTo(fraction);
+        });
+    }
+
+    @Test
+    public void simplify_shouldReturnSimpleFractionSimplified() {
+        List<Fraction> properFractions = List.of(Fraction.with(9, 27),
+                Fraction.with(11, 121),
+                Fraction.with(7, 49),
+                Fraction.with(2, 4));
+
+        List<Fraction> expectedSimplifiedFractions = List.of(Fraction.with(1, 3),
+                Fraction.with(1, 11),
+                Fraction.with(1, 7),
+                Fraction.with(1, 2));
+
+        for (int i = 0; i < properFractions.size(); i++) {
+            assertThat(fractionCalculator.simplify(properFractions.get(i)))
+                    .isEqualTo(expectedSimplifiedFractions.get(i));
+        }
+    }
+
+    @Test
+    public void simplify_shouldReturnMixedFractionIfImproperFraction() {
+        List<Fraction> improperFractions = List.of(Fraction.with(3, 2),
+                Fraction.with(21, 4),
+                Fraction.with(-13, 9));
+
+        List<Fraction> expectedSimplifiedFractions = List.of(MixedFraction.with(1, 1, 2),
+                MixedFraction.with(5, 1, 4),
+                MixedFraction.with(-1, 4, 9));
+
+        for (int i = 0; i < improperFractions.size(); i++) {
+            assertThat(fractionCalculator.simplify(improperFractions.get(i)))
+                    .isEqualTo(expectedSimplifiedFractions.get(i));
+        }
+    }
+
+    @Test
+    public void perform_shouldReturnAddResult() throws Exception {
+        String[] args = { "1/2", "+", "1/2" };
+
+        Fraction result = fractionCalculator.perform(args);
+        Mockito.verify(argumentValidator).validate(args);
+
+        assertThat(result).isEqualTo(Fraction.with(1, 1));
+    }
+
+    @Test
+    public void perform_shouldReturnSubtractResult() throws Exception {
+        String[] args = { "1/2", "-", "1/2" };
+
+        Fraction result = fractionCalculator.perform(args);
+        Mockito.verify(argumentValidator).validate(args);
+
+        assertThat(result).isEqualTo(Fraction.with(0, 1));
+    }
+
+    @Test
+    public void perform_shouldReturnMultiplyResult() throws Exception {
+        String[] args = { "1/2", "*", "1/2" };
+
+        Fraction result = fractionCalculator.perform(args);
+        Mockito.verify(argumentValidator).validate(args);
+
+        assertThat(result).isEqualTo(Fraction.with(1, 4));
+    }
+
+    @Test
+    public void perform_shouldReturnDivideResult() throws Exception {
+        String[] args = { "1/2", "/", "1/2" };
+
+        Fraction result = fractionCalculator.perform(args);
+        Mockito.verify(argumentValidator).validate(args);
+
+        assertThat(result).isEqualTo(Fraction.with(1, 1));
+    }
+
+    @Test
+    public void perform_shouldThrowExceptionIfUnknownOperator() throws Exception {
+        String[] args = { "1/2", "&", "1/2" };
+
+        doThrow(new CalculatorException(Message.badOrderOrFormat())).when(argumentValidator).validate(args);
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+            fractionCalculator.perform(args);
+        }).withMessageContaining("order of the operator");
+    }
+
+    @Test
+    public void perform_shouldThrowExceptionIfBadOrderOfArguments() throws Exception {
+        String[] args = { "1/2", "1/2", "+" };
+
+        doThrow(new CalculatorException(Message.badOrderOrFormat())).when(argumentValidator).validate(args);
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+            fractionCalculator.perform(args);
+        }).withMessageContaining("order of the operator");
+    }
+
+    @Test
+    public void perform_shouldThrowExceptionIfBadFormatOfOperand() throws Exception {
+        String[] args = { "1/", "1/2", "+" };
+
+        doThrow(new CalculatorException(Message.badOrderOrFormat())).when(argumentValidator).validate(args);
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+            fractionCalculator.perform(args);
+        }).withMessageContaining("order of the operator");
+    }
+
+    @Test
+    public void perform_shouldReturnFractionWithZeroAsDenominator() throws Exception {
+        String[] args = { "1/2", "/", "0/2" };
+
+        Fraction result = fractionCalculator.perform(args);
+        Mockito.verify(argumentValidator).validate(args);
+
+        assertThat(result).isEqualTo(Fraction.with(1, 0));
+    }
+
+    @Test
+    public void perform_shouldReturnMixedFraction() throws Exception {
+        String[] args = { "1/2", "+", "4/5" };
+
+        Fraction result = fractionCalculator.perform(args);
+        Mockito.verify(argumentValidator).validate(args);
+
+        assertThat(result).isInstanceOf(MixedFraction.class);
+        MixedFraction mixedFractionResult = (MixedFraction) result;
+        assertThat(mixedFractionResult).isEqualTo(MixedFraction.with(1, 3, 10));
+    }
+
+    @Test
+    public void multiply_shouldPromoteToBigFractionInsteadOfOverflowing() {
+        Fraction x = Fraction.with(Integer.MAX_VALUE, 3);
+        Fraction y = Fraction.with(Integer.MAX_VALUE, 5);
+
+        Fraction result = fractionCalculator.multiply(x, y);
+
+        assertThat(result).isInstanceOf(BigFraction.class);
+        assertThat(result.getBigNumerator()).isEqualTo(BigInteger.valueOf((long) Integer.MAX_VALUE * Integer.MAX_VALUE));
+        assertThat(result.getBigDenominator()).isEqualTo(BigInteger.valueOf(15));
+    }
+
+    @Test
+    public void add_shouldDemoteToIntOnceResultFits() {
+        Fraction big = BigFraction.with(BigInteger.valueOf(3L * Integer.MAX_VALUE), BigInteger.valueOf(2));
+        Fraction negatedBig = BigFraction.with(BigInteger.valueOf(-3L * Integer.MAX_VALUE), BigInteger.valueOf(2));
+
+        Fraction result = fractionCalculator.add(big, fractionCalculator.add(negatedBig, Fraction.with(1, 2)));
+
+        assertThat(fractionCalculator.simplify(result)).isEqualTo(Fraction.with(1, 2));
+    }
+
+    @Test
+    public void perform_shouldReturnExactResultBeyondIntegerRange() throws Exception {
+        String[] args = { "2147483647", "*", "2147483647_1/2" };
+
+        Fraction result = fractionCalculator.perform(args);
+
+        assertThat(result.toString()).isEqualTo("4611686015206162432_1/2");
+    }
+
+    @Test
+    public void perform_shouldDivideBeyondIntegerRange() throws Exception {
+        String[] args = { "-1/3", "/", "99999999999" };
+
+        Fraction result = fractionCalculator.perform(args);
+
+        assertThat(result.toString()).isEqualTo("-1/299999999997");
+    }
+
+    @Test
+    public void perform_shouldEvaluateExpressionWithMoreThanThreeArguments() throws Exception {
+        String[] args = { "1/2", "+", "3_3/4", "*", "(2", "-", "1/3)" };
+
+        Fraction result = fractionCalculator.perform(args);
+        Mockito.verifyZeroInteractions(argumentValidator);
+
+        assertThat(result).isEqualTo(MixedFraction.with(6, 3, 4));
+    }
+
+    @Test
+    public void evaluate_shouldReturnSimplifiedResult() throws Exception {
+        assertThat(fractionCalculator.evaluate("(1/2 + 1/2) * 3/4")).isEqualTo(Fraction.with(3, 4));
+        assertThat(fractionCalculator.evaluate("9/6")).isEqualTo(MixedFraction.with(1, 1, 2));
+    }
+
+    @Test
+    public void reduce_shouldNeverReturnMixedFraction() {
+        Fraction reduced = fractionCalculator.reduce(Fraction.with(18, -4));
+
+        assertThat(reduced).isNotInstanceOf(MixedFraction.class).isEqualTo(Fraction.with(-9, 2));
+    }
+
+    @Test
+    public void reduce_shouldConvertMixedFractionsIntoSimpleFractions() {
+        assertThat(fractionCalculator.reduce(MixedFraction.with(-3, 2, 4))).isEqualTo(Fraction.with(-7, 2));
+        assertThat(fractionCalculator.reduce(MixedFraction.with(0, -1, 2))).isEqualTo(Fraction.with(-1, 2));
+        assertThat(fractionCalculator.reduce(BigMixedFraction.with(BigInteger.valueOf(Integer.MAX_VALUE),
+                BigInteger.ONE, BigInteger.valueOf(2)))).isEqualTo(Fraction.with(4294967295L, 2L));
+    }
+
+    @Test
+    public void tryPerform_shouldReturnSameResultsAsPerform() throws Exception {
+        FractionCalculator calculator = new FractionCalculator(new ArgumentValidator());
+        String[][] operations = { { "1/2", "+", "3_3/4" }, { "-2", "/", "4" }, { "1", "/", "0" },
+                { "2147483647", "*", "2" }, { "1/2", "*", "(", "2", "-", "1/3", ")" } };
+
+        for (String[] args : operations) {
+            FractionResult result = calculator.tryPerform(args);
+
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getValue()).isEqualTo(calculator.perform(args));
+        }
+    }
+
+    @Test
+    public void tryPerform_shouldEvaluateThreeArgumentsWhichAreAnExpression() throws CalculatorException {
+        FractionCalculator calculator = new FractionCalculator(new ArgumentValidator());
+
+        FractionResult result = calculator.tryPerform("1/2", "*", "(2-1/3)");
+
+        assertThat(result.getValue()).isEqualTo(Fraction.with(5, 6));
+        assertThat(calculator.perform("1/2", "*", "(2-1/3)")).isEqualTo(calculator.perform("1/2 * (2 - 1/3)"));
+        assertThat(calculator.perform("1+1", "*", "2").toString()).isEqualTo("3");
+        assertThat(calculator.tryPerform("1/2", "*", "(2-").getErrorCode()).isEqualTo(ErrorCode.BAD_ORDER_OR_FORMAT);
+    }
+
+    @Test
+    public void tryPerform_shouldReturnErrorCodeAndOffendingOperand() {
+        FractionCalculator calculator = new FractionCalculator(new ArgumentValidator());
+
+        FractionResult badFormat = calculator.tryPerform("1/2", "+", "3_/4");
+        FractionResult zeroDenominator = calculator.tryPerform("1/0", "+", "1");
+        FractionResult badExpression = calculator.tryPerform("1", "+", "(", "2");
+        FractionResult divisionByZero = calculator.tryPerform("1", "/", "(", "1", "-", "1", ")");
+
+        assertThat(badFormat.getErrorCode()).isEqualTo(ErrorCode.BAD_ORDER_OR_FORMAT);
+        assertThat(badFormat.getError().getOperand()).isEqualTo("3_/4");
+        assertThat(zeroDenominator.getErrorCode()).isEqualTo(ErrorCode.ZERO_AS_DENOMINATOR);
+        assertThat(zeroDenominator.getError().getOperand()).isEqualTo("1/0");
+        assertThat(badExpression.getErrorCode()).isEqualTo(ErrorCode.UNEXPECTED_END);
+        assertThat(badExpression.getError().getOperand()).isEqualTo("1 + ( 2");
+        assertThat(badExpression.getError().getStackTrace()).isEmpty();
+        assertThat(divisionByZero.getErrorCode()).isEqualTo(ErrorCode.DIVISION_BY_ZERO);
+    }
+
+    @Test
+    public void tryPerform_shouldReportNamesAsMalformedOperandsWithoutStackTrace() {
+        FractionCalculator calculator = new FractionCalculator(new ArgumentValidator());
+
+        FractionResult name = calculator.tryPerform("abc");
+        FractionResult notAvailable = calculator.tryPerform("N/A");
+
+        assertThat(name.getErrorCode()).isEqualTo(ErrorCode.MALFORMED_OPERAND);
+        assertThat(name.getError().getOperand()).isEqualTo("abc");
+        assertThat(name.getError().getStackTrace()).isEmpty();
+        assertThat(notAvailable.getErrorCode()).isEqualTo(ErrorCode.MALFORMED_OPERAND);
+        assertThat(notAvailable.getError().getMessage()).isEqualTo("Error while parsing operand N");
+        assertThat(notAvailable.getError().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void tryPerform_shouldAcceptFractionOperands() throws Exception {
+        FractionCalculator calculator = new FractionCalculator(new ArgumentValidator());
+
+        FractionResult sum = calculator.tryPerform('+', Fraction.with(1, 2), MixedFraction.with(3, 3, 4));
+        FractionResult zeroDenominator = calculator.tryPerform('*', Fraction.with(1, 2), Fraction.with(-3, 0));
+        FractionResult unknownOperator = calculator.tryPerform('%', Fraction.with(1, 2), Fraction.with(1, 2));
+
+        assertThat(sum.getValue()).isEqualTo(calculator.perform("1/2", "+", "3_3/4"));
+        assertThat(zeroDenominator.getErrorCode()).isEqualTo(ErrorCode.ZERO_AS_DENOMINATOR);
+        assertThat(zeroDenominator.getError().getOperand()).isEqualTo("-1/0");
+        assertThat(unknownOperator.getErrorCode()).isEqualTo(ErrorCode.BAD_ORDER_OR_FORMAT);
+    }
+}
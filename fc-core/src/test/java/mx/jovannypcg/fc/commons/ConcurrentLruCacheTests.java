@@ -0,0 +1,107 @@
+package mx.jovannypcg.fc.commons;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ConcurrentLruCacheTests {
+    @Test
+    public void get_shouldComputeOnlyOnMiss() {
+        ConcurrentLruCache<String, Integer> cache = new ConcurrentLruCache<>(10);
+        AtomicInteger computations = new AtomicInteger();
+
+        cache.get("a", key -> computations.incrementAndGet());
+        cache.get("a", key -> computations.incrementAndGet());
+        Integer value = cache.get("a", key -> computations.incrementAndGet());
+
+        assertThat(value).isEqualTo(1);
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_shouldNotCacheNullValues() {
+        ConcurrentLruCache<String, Integer> cache = new ConcurrentLruCache<>(10);
+
+        assertThat(cache.get("a", key -> null)).isNull();
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void get_shouldEvictLeastRecentlyUsedEntry() {
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(1);
+
+        cache.get(1, key -> key);
+        cache.get(2, key -> key);
+
+        assertThat(cache.getIfPresent(1)).isNull();
+        assertThat(cache.getIfPresent(2)).isEqualTo(2);
+    }
+
+    @Test
+    public void get_shouldNeverExceedMaximumSize() {
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(100);
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.get(i, key -> key);
+            cache.get(0, key -> key); // keeps 0 recently used
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.getIfPresent(0)).isEqualTo(0);
+    }
+
+    @Test
+    public void get_shouldBeSafeToShareAcrossThreads() throws Exception {
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int thread = 0; thread < 8; thread++) {
+            results.add(executor.submit(() -> {
+                boolean consistent = true;
+
+                for (int i = 0; i < 100_000; i++) {
+                    int key = i % 128;
+                    consistent &= cache.get(key, k -> k * 2) == key * 2;
+                }
+
+                return consistent;
+            }));
+        }
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        executor.shutdown();
+
+        assertThat(cache.getHits() + cache.getMisses()).isEqualTo(800_000);
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    public void clear_shouldRemoveEntriesAndResetCounters() {
+        ConcurrentLruCache<String, Integer> cache = new ConcurrentLruCache<>(10);
+        cache.get("a", key -> 1);
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMisses()).isZero();
+    }
+
+    @Test
+    public void constructor_shouldRejectNonPositiveSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new ConcurrentLruCache<>(0));
+    }
+}
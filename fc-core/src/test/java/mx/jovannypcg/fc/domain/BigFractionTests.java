@@ -0,0 +1,86 @@
+package mx.jovannypcg.fc.domain;
+
+import mx.jovannypcg.fc.exception.CalculatorException;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class BigFractionTests {
+    private static final BigInteger BEYOND_INT = BigInteger.valueOf(Integer.MAX_VALUE).add(BigInteger.ONE);
+
+    @Test
+    public void parse_shouldReturnBigFractionBeyondIntegerRange() throws Exception {
+        Fraction fraction = Fraction.parse("-12345678901234567890/7");
+
+        assertThat(fraction).isInstanceOf(BigFraction.class);
+        assertThat(fraction.getBigNumerator()).isEqualTo(new BigInteger("-12345678901234567890"));
+        assertThat(fraction.getBigDenominator()).isEqualTo(BigInteger.valueOf(7));
+    }
+
+    @Test
+    public void parse_shouldKeepMixedFractionRulesBeyondIntegerRange() throws Exception {
+        Fraction fraction = Fraction.parse("-3000000000_5/8");
+
+        assertThat(fraction.getBigNumerator()).isEqualTo(BigInteger.valueOf(-3000000000L * 8 + 5));
+        assertThat(fraction.getBigDenominator()).isEqualTo(BigInteger.valueOf(8));
+    }
+
+    @Test
+    public void parse_shouldDemoteToIntWhenReducedValuesFit() throws Exception {
+        Fraction fraction = Fraction.parse("4294967296/8589934592");
+
+        assertThat(fraction).isNotInstanceOf(BigFraction.class).isEqualTo(Fraction.with(1, 2));
+    }
+
+    @Test
+    public void parse_shouldThrowExceptionWhenInvalidOperand() {
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> BigFraction.parse("1_99999999999"));
+    }
+
+    @Test
+    public void withLong_shouldPromoteOnlyWhenReducedValuesDoNotFit() {
+        assertThat(Fraction.with(4L * Integer.MAX_VALUE, 4L)).isEqualTo(Fraction.with(Integer.MAX_VALUE, 1));
+        assertThat(Fraction.with(3L * Integer.MAX_VALUE, 2L)).isInstanceOf(BigFraction.class);
+    }
+
+    @Test
+    public void getNumerator_shouldThrowExceptionWhenValueDoesNotFitIntoInt() {
+        BigFraction fraction = BigFraction.with(BEYOND_INT, BigInteger.ONE);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(fraction::getNumerator);
+    }
+
+    @Test
+    public void reduce_shouldKeepSignInNumerator() {
+        BigInteger trillion = BigInteger.TEN.pow(12);
+        Fraction reduced = BigFraction.with(trillion.multiply(BigInteger.TWO), BigInteger.valueOf(-6)).reduce();
+
+        assertThat(reduced).isEqualTo(BigFraction.with(trillion.negate(), BigInteger.valueOf(3)));
+    }
+
+    @Test
+    public void isImproper_shouldCompareAbsoluteNumeratorWithDenominator() {
+        assertThat(BigFraction.with(BEYOND_INT.negate(), BigInteger.TWO).isImproper()).isTrue();
+        assertThat(BigFraction.with(BigInteger.TWO, BEYOND_INT).isImproper()).isFalse();
+    }
+
+    @Test
+    public void toString_shouldPrintIntegerOrSimpleFraction() {
+        assertThat(BigFraction.with(BEYOND_INT, BigInteger.ONE).toString()).isEqualTo("2147483648");
+        assertThat(BigFraction.with(BEYOND_INT, BigInteger.valueOf(3)).toString()).isEqualTo("2147483648/3");
+    }
+
+    @Test
+    public void bigMixedFractionParse_shouldFollowMixedFractionRules() {
+        BigFraction improper = BigFraction.with(BEYOND_INT.negate().subtract(BigInteger.ONE), BigInteger.TWO);
+        BigMixedFraction mixedFraction = BigMixedFraction.parse(improper);
+
+        assertThat(mixedFraction.getBigWholeNumber()).isEqualTo(BigInteger.valueOf(-1073741824));
+        assertThat(mixedFraction.getBigNumerator()).isEqualTo(BigInteger.ONE);
+        assertThat(mixedFraction.getBigDenominator()).isEqualTo(BigInteger.TWO);
+        assertThat(mixedFraction.toString()).isEqualTo("-1073741824_1/2");
+    }
+}
@@ -1,16 +1,16 @@
 package mx.jovannypcg.fc.domain;
 
 import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.junit4.SpringRunner;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
-@SpringBootTest
-@RunWith(SpringRunner.class)
 public class FractionTests {
     @Test
     public void isImproper_shouldReturnTrue() {
@@ -220,4 +220,134 @@ public class FractionTests {
                 .hasFieldOrPropertyWithValue("numerator", expectedNumerator)
                 .hasFieldOrPropertyWithValue("denominator", 8);
     }
+
+    @Test
+    public void tryParse_shouldReturnSameFractionAsParse() throws Exception {
+        String[] operands = { "8", "-3/4", "3_2/5", "99999999999/2" };
+
+        for (String operand : operands) {
+            FractionResult result = Fraction.tryParse(operand);
+
+            assertThat(result.isSuccess()).as(operand).isTrue();
+            assertThat(result.getValue()).as(operand).isEqualTo(Fraction.parse(operand));
+        }
+    }
+
+    @Test
+    public void tryParse_shouldReturnFailureWithoutThrowing() {
+        FractionResult malformed = Fraction.tryParse("-x_y/z");
+        FractionResult zeroDenominator = Fraction.tryParse("3/0");
+
+        assertThat(malformed.isSuccess()).isFalse();
+        assertThat(malformed.getErrorCode()).isEqualTo(ErrorCode.MALFORMED_OPERAND);
+        assertThat(malformed.getError().getOperand()).isEqualTo("-x_y/z");
+        assertThat(malformed.getError()).hasMessage("Error while parsing operand -x_y/z");
+        assertThat(malformed.getError().getStackTrace()).isEmpty();
+        assertThat(zeroDenominator.getErrorCode()).isEqualTo(ErrorCode.ZERO_AS_DENOMINATOR);
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(zeroDenominator::orElseThrow);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(zeroDenominator::getValue);
+    }
+
+    @Test
+    public void with_shouldReduceToCanonicalForm() {
+        assertThat(Fraction.with(2, 4)).isEqualTo(Fraction.with(1, 2));
+        assertThat(Fraction.with(3, -6)).isEqualTo(Fraction.with(-1, 2));
+        assertThat(Fraction.with(0, 5)).isEqualTo(Fraction.with(0, 1));
+        assertThat(Fraction.with(7, 0)).isEqualTo(Fraction.with(1, 0));
+        assertThat(Fraction.with(Integer.MIN_VALUE, -2)).isEqualTo(Fraction.with(1 << 30, 1));
+    }
+
+    @Test(timeout = 1000)
+    public void with_shouldReduceLongMinValue() {
+        BigInteger minValue = BigInteger.valueOf(Long.MIN_VALUE);
+        BigInteger three = BigInteger.valueOf(3);
+
+        assertThat(Fraction.with(Long.MIN_VALUE, 3L)).isEqualTo(Fraction.with(minValue, three));
+        assertThat(Fraction.with(Long.MIN_VALUE, -3L)).isEqualTo(Fraction.with(minValue.negate(), three));
+        assertThat(Fraction.with(3L, Long.MIN_VALUE)).isEqualTo(Fraction.with(three.negate(), minValue.negate()));
+        assertThat(Fraction.with(Long.MIN_VALUE, Long.MIN_VALUE)).isEqualTo(Fraction.with(1, 1));
+        assertThat(Fraction.with(Long.MIN_VALUE, 1L << 40).toString()).isEqualTo("-8388608");
+    }
+
+    @Test
+    public void hashCode_shouldBeEqualForEquivalentFractions() {
+        assertThat(Fraction.with(2, 4).hashCode()).isEqualTo(Fraction.with(1, 2).hashCode());
+        assertThat(Fraction.with(BigInteger.valueOf(6), BigInteger.valueOf(-8)).hashCode())
+                .isEqualTo(Fraction.with(-3, 4).hashCode());
+    }
+
+    @Test
+    public void hashCode_shouldAllowFractionsAsMapKeys() throws CalculatorException {
+        Map<Fraction, String> names = new HashMap<>();
+        names.put(Fraction.parse("1/2"), "half");
+
+        assertThat(names.get(Fraction.parse("2/4"))).isEqualTo("half");
+        assertThat(names.get(Fraction.parse("3/6"))).isEqualTo("half");
+        assertThat(names.get(Fraction.parse("1/3"))).isNull();
+    }
+
+    @Test
+    public void compareTo_shouldOrderByValue() {
+        assertThat(Fraction.with(1, 3).compareTo(Fraction.with(1, 2))).isNegative();
+        assertThat(Fraction.with(-1, 2).compareTo(Fraction.with(-2, 3))).isPositive();
+        assertThat(Fraction.with(2, 4).compareTo(Fraction.with(1, 2))).isZero();
+    }
+
+    @Test
+    public void compareTo_shouldNotOverflow() {
+        Fraction large = Fraction.with(Integer.MAX_VALUE, 1);
+        Fraction small = Fraction.with(Integer.MIN_VALUE + 1, Integer.MAX_VALUE - 1);
+        Fraction big = Fraction.with(BigInteger.valueOf(Long.MAX_VALUE), BigInteger.ONE);
+
+        assertThat(large.compareTo(small)).isPositive();
+        assertThat(small.compareTo(large)).isNegative();
+        assertThat(big.compareTo(large)).isPositive();
+        assertThat(large.compareTo(big)).isNegative();
+    }
+
+    @Test
+    public void compareTo_shouldOrderMixedFractionsByValue() {
+        assertThat(MixedFraction.with(1, 1, 2).compareTo(Fraction.with(3, 2))).isZero();
+        assertThat(MixedFraction.with(-1, 1, 2).compareTo(Fraction.with(-1, 1))).isNegative();
+    }
+
+    @Test
+    public void compareTo_shouldNotOverflowForMixedFractionsLargerThanAnInt() {
+        MixedFraction large = MixedFraction.with(100000, 1, 30000);
+        MixedFraction negative = MixedFraction.with(-100000, 1, 30000);
+
+        assertThat(large.compareTo(Fraction.with(1, 2))).isPositive();
+        assertThat(Fraction.with(1, 2).compareTo(large)).isNegative();
+        assertThat(negative.compareTo(Fraction.with(-100000, 1))).isNegative();
+        assertThat(large.compareTo(Fraction.with(BigInteger.valueOf(3000000001L), BigInteger.valueOf(30000))))
+                .isZero();
+    }
+
+    @Test
+    public void compareTo_shouldOrderZeroAsDenominatorLikeInfinity() {
+        Fraction negativeInfinity = Fraction.with(-1, 0);
+        Fraction positiveInfinity = Fraction.with(1, 0);
+        Fraction undefined = Fraction.with(0, 0);
+        Fraction max = Fraction.with(Integer.MAX_VALUE, 1);
+
+        assertThat(negativeInfinity.compareTo(Fraction.with(Integer.MIN_VALUE, 1))).isNegative();
+        assertThat(positiveInfinity.compareTo(max)).isPositive();
+        assertThat(undefined.compareTo(positiveInfinity)).isPositive();
+        assertThat(undefined.compareTo(undefined)).isZero();
+    }
+
+    @Test
+    public void with_shouldShareSmallFractions() throws CalculatorException {
+        assertThat(Fraction.with(3, 16)).isSameAs(Fraction.with(6, 32));
+        assertThat(Fraction.with(-128, 1)).isSameAs(Fraction.with(-128L, 1L));
+        assertThat(Fraction.parse("1/2")).isSameAs(Fraction.with(1, 2));
+        assertThat(Fraction.parse("1_3/4")).isSameAs(Fraction.with(7, 4));
+    }
+
+    @Test
+    public void with_shouldNotShareLargeFractions() {
+        assertThat(Fraction.with(129, 1)).isNotSameAs(Fraction.with(129, 1));
+        assertThat(Fraction.with(1, 17)).isNotSameAs(Fraction.with(1, 17));
+        assertThat(Fraction.with(1, 0)).isNotSameAs(Fraction.with(1, 0));
+    }
 }
@@ -0,0 +1,115 @@
+package mx.jovannypcg.fc.domain;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class FractionVectorTests {
+    private final FractionVector x = FractionVector.of(new int[] { 1, -2, 3, 0 }, new int[] { 2, 3, 4, 5 });
+    private final FractionVector y = FractionVector.of(new int[] { 1, 1, -9, 7 }, new int[] { 3, 6, 12, 1 });
+
+    @Test
+    public void of_shouldReduceAndKeepSignInNumerator() {
+        FractionVector vector = FractionVector.of(new int[] { 9, 4, -6, 0 }, new int[] { 27, -8, -9, 5 });
+
+        assertThat(vector.toArray()).containsExactly(
+                Fraction.with(1, 3), Fraction.with(-1, 2), Fraction.with(2, 3), Fraction.with(0, 1));
+    }
+
+    @Test
+    public void of_shouldConvertMixedFractions() {
+        FractionVector vector = FractionVector.of(MixedFraction.with(1, 1, 2), Fraction.with(3, 4));
+
+        assertThat(vector.toArray()).containsExactly(Fraction.with(3, 2), Fraction.with(3, 4));
+    }
+
+    @Test
+    public void of_shouldThrowExceptionWithZeroDenominator() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> FractionVector.of(new int[] { 1, 1 }, new int[] { 2, 0 }));
+    }
+
+    @Test
+    public void of_shouldThrowExceptionWithDifferentLengths() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> FractionVector.of(new int[] { 1, 1 }, new int[] { 2 }));
+    }
+
+    @Test
+    public void arithmetic_shouldReturnReducedResultsElementByElement() {
+        assertThat(x.add(y).toArray()).containsExactly(
+                Fraction.with(5, 6), Fraction.with(-1, 2), Fraction.with(0, 1), Fraction.with(7, 1));
+        assertThat(x.subtract(y).toArray()).containsExactly(
+                Fraction.with(1, 6), Fraction.with(-5, 6), Fraction.with(3, 2), Fraction.with(-7, 1));
+        assertThat(x.multiply(y).toArray()).containsExactly(
+                Fraction.with(1, 6), Fraction.with(-1, 9), Fraction.with(-9, 16), Fraction.with(0, 1));
+        assertThat(x.divide(y).toArray()).containsExactly(
+                Fraction.with(3, 2), Fraction.with(-4, 1), Fraction.with(-1, 1), Fraction.with(0, 1));
+    }
+
+    @Test
+    public void arithmetic_shouldApplyScalarToEveryElement() {
+        Fraction half = Fraction.with(1, 2);
+
+        assertThat(x.add(half).toArray()).containsExactly(
+                Fraction.with(1, 1), Fraction.with(-1, 6), Fraction.with(5, 4), Fraction.with(1, 2));
+        assertThat(x.divide(half)).isEqualTo(x.multiply(Fraction.with(2, 1)));
+    }
+
+    @Test
+    public void arithmetic_shouldMatchElementWiseOperationsForScalars() {
+        Fraction scalar = MixedFraction.with(-1, 2, 6);
+        FractionVector broadcast = FractionVector.of(scalar, scalar, scalar, scalar);
+
+        assertThat(x.add(scalar)).isEqualTo(x.add(broadcast));
+        assertThat(x.subtract(scalar)).isEqualTo(x.subtract(broadcast));
+        assertThat(x.multiply(scalar)).isEqualTo(x.multiply(broadcast));
+        assertThat(x.divide(scalar)).isEqualTo(x.divide(broadcast));
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> x.divide(Fraction.with(0, 1)));
+    }
+
+    @Test
+    public void arithmetic_shouldMatchFractionCalculator() {
+        FractionCalculator calculator = new FractionCalculator(new ArgumentValidator());
+        Random random = new Random(42);
+        int size = 1_000;
+        int[] numerators = new int[size];
+        int[] denominators = new int[size];
+        int[] thatNumerators = new int[size];
+        int[] thatDenominators = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            numerators[i] = random.nextInt(20_001) - 10_000;
+            denominators[i] = random.nextInt(10_000) + 1;
+            thatNumerators[i] = random.nextInt(20_000) + 1;
+            thatDenominators[i] = random.nextInt(10_000) + 1;
+        }
+
+        FractionVector vector = FractionVector.of(numerators, denominators);
+        FractionVector that = FractionVector.of(thatNumerators, thatDenominators);
+        FractionVector sum = vector.add(that);
+        FractionVector quotient = vector.divide(that);
+
+        for (int i = 0; i < size; i++) {
+            assertThat(sum.get(i)).isEqualTo(calculator.add(vector.get(i), that.get(i)));
+            assertThat(quotient.get(i)).isEqualTo(calculator.divide(vector.get(i), that.get(i)));
+        }
+    }
+
+    @Test
+    public void divide_shouldThrowExceptionWhenDividingByZero() {
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> y.divide(x));
+    }
+
+    @Test
+    public void multiply_shouldThrowExceptionWhenResultDoesNotFitIntoInt() {
+        FractionVector big = FractionVector.of(Fraction.with(Integer.MAX_VALUE, 1));
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> big.multiply(big));
+    }
+}
@@ -2,14 +2,9 @@ package mx.jovannypcg.fc.domain;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.junit4.SpringRunner;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
-@RunWith(SpringRunner.class)
 public class MixedFractionTests {
     private Fraction[] improperFractions;
 
@@ -68,7 +63,14 @@ public class MixedFractionTests {
     @Test
     public void toString_shouldReturnMixedFraction() {
         MixedFraction mixedFraction = MixedFraction.with(-2, 3, 9);
-        assertThat(mixedFraction.toString()).isEqualTo("-2_3/9");
+        assertThat(mixedFraction.toString()).isEqualTo("-2_1/3");
+    }
+
+    @Test
+    public void parse_shouldShareSmallMixedFractions() {
+        assertThat(MixedFraction.parse(Fraction.with(-7, 4))).isSameAs(MixedFraction.with(-1, 3, 4));
+        assertThat(MixedFraction.parse(Fraction.with(1, 3))).isSameAs(MixedFraction.with(0, 2, 6));
+        assertThat(MixedFraction.with(17, 1, 2)).isNotSameAs(MixedFraction.with(17, 1, 2));
     }
 
     private void attributesAssertion(MixedFraction mixedFraction, int wholeNumber, int numerator, int denominator) {
@@ -0,0 +1,87 @@
+package mx.jovannypcg.fc.domain;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class PackedFractionTests {
+    @Test
+    public void pack_shouldKeepNumeratorAndDenominator() {
+        long packed = PackedFraction.pack(-7, 12);
+
+        assertThat(PackedFraction.numerator(packed)).isEqualTo(-7);
+        assertThat(PackedFraction.denominator(packed)).isEqualTo(12);
+    }
+
+    @Test
+    public void of_shouldReduceAndKeepSignInNumerator() {
+        assertFraction(PackedFraction.of(9, 27), 1, 3);
+        assertFraction(PackedFraction.of(4, -8), -1, 2);
+        assertFraction(PackedFraction.of(-6, -9), 2, 3);
+        assertFraction(PackedFraction.of(0, 5), 0, 1);
+    }
+
+    @Test
+    public void of_shouldThrowExceptionWithZeroDenominator() {
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> PackedFraction.of(1, 0));
+    }
+
+    @Test
+    public void arithmetic_shouldReturnReducedResults() {
+        long x = PackedFraction.of(2, 3);
+        long y = PackedFraction.of(-3, 15);
+
+        assertFraction(PackedFraction.add(x, y), 7, 15);
+        assertFraction(PackedFraction.subtract(x, y), 13, 15);
+        assertFraction(PackedFraction.multiply(x, y), -2, 15);
+        assertFraction(PackedFraction.divide(x, y), -10, 3);
+    }
+
+    @Test
+    public void divide_shouldThrowExceptionWhenDividingByZero() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> PackedFraction.divide(PackedFraction.ONE, PackedFraction.ZERO));
+    }
+
+    @Test
+    public void multiply_shouldThrowExceptionWhenResultDoesNotFitIntoInt() {
+        long big = PackedFraction.of(Integer.MAX_VALUE, 1);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> PackedFraction.multiply(big, big));
+    }
+
+    @Test(timeout = 1000)
+    public void greatestCommonFactor_shouldHandleLongMinValue() {
+        assertThat(PackedFraction.greatestCommonFactor(Long.MIN_VALUE, 3)).isEqualTo(1);
+        assertThat(PackedFraction.greatestCommonFactor(Long.MIN_VALUE, -12)).isEqualTo(4);
+        assertThat(PackedFraction.greatestCommonFactor(1L << 40, Long.MIN_VALUE)).isEqualTo(1L << 40);
+        assertThat(PackedFraction.greatestCommonFactor(Long.MIN_VALUE, Long.MIN_VALUE)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void compare_shouldCompareByValue() {
+        assertThat(PackedFraction.compare(PackedFraction.of(1, 2), PackedFraction.of(2, 3))).isNegative();
+        assertThat(PackedFraction.compare(PackedFraction.of(-1, 2), PackedFraction.of(-2, 3))).isPositive();
+        assertThat(PackedFraction.compare(PackedFraction.of(2, 4), PackedFraction.of(1, 2))).isZero();
+    }
+
+    @Test
+    public void toPacked_shouldBeInverseOfFromPacked() {
+        Fraction fraction = Fraction.with(-13, 9);
+
+        assertThat(Fraction.fromPacked(fraction.toPacked())).isEqualTo(fraction);
+    }
+
+    @Test
+    public void toPacked_shouldReturnImproperFractionForMixedFraction() {
+        assertFraction(MixedFraction.with(1, 3, 10).toPacked(), 13, 10);
+        assertFraction(MixedFraction.with(-1, 4, 9).toPacked(), -13, 9);
+        assertFraction(MixedFraction.with(0, -1, 3).toPacked(), -1, 3);
+    }
+
+    private void assertFraction(long packed, int numerator, int denominator) {
+        assertThat(PackedFraction.numerator(packed)).isEqualTo(numerator);
+        assertThat(PackedFraction.denominator(packed)).isEqualTo(denominator);
+    }
+}
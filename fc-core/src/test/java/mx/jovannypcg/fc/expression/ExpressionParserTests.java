@@ -0,0 +1,126 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ExpressionParserTests {
+    private ExpressionParser expressionParser;
+
+    @Before
+    public void init() {
+        expressionParser = new ExpressionParser(new FractionCalculator(new ArgumentValidator()));
+    }
+
+    @Test
+    public void parse_shouldApplyOperatorPrecedence() throws Exception {
+        assertThat(evaluate("1/2 + 3_3/4 * (2 - 1/3)")).isEqualTo(Fraction.with(27, 4));
+        assertThat(evaluate("1 + 2 * 3 - 4 / 2")).isEqualTo(Fraction.with(5, 1));
+        assertThat(evaluate("(1 + 2) * 3")).isEqualTo(Fraction.with(9, 1));
+    }
+
+    @Test
+    public void parse_shouldBeLeftAssociative() throws Exception {
+        assertThat(evaluate("8 - 2 - 1")).isEqualTo(Fraction.with(5, 1));
+        assertThat(evaluate("8 / 2 / 4")).isEqualTo(Fraction.with(1, 1));
+        assertThat(evaluate("6/2/3")).isEqualTo(Fraction.with(1, 1));
+    }
+
+    @Test
+    public void parse_shouldAcceptNegativeOperandsAndUnaryMinus() throws Exception {
+        assertThat(evaluate("-1/2 * -2")).isEqualTo(Fraction.with(1, 1));
+        assertThat(evaluate("3 -1")).isEqualTo(Fraction.with(2, 1));
+        assertThat(evaluate("-(1/2 + 1/4)")).isEqualTo(Fraction.with(-3, 4));
+        assertThat(evaluate("2 - -7_5/8")).isEqualTo(Fraction.with(67, 8));
+    }
+
+    @Test
+    public void parse_shouldIgnoreWhitespace() throws Exception {
+        assertThat(evaluate("  (1/2+1/3)*6 ")).isEqualTo(Fraction.with(5, 1));
+    }
+
+    @Test
+    public void parse_shouldFoldConstantExpressions() throws Exception {
+        Expression expression = expressionParser.parse("1/2 + 3_3/4 * (2 - 1/3)");
+
+        assertThat(expression.isConstant()).isTrue();
+        assertThat(expression.getSource()).isEqualTo("1/2 + 3_3/4 * (2 - 1/3)");
+    }
+
+    @Test
+    public void parse_shouldKeepVariablesOutOfConstantFolding() throws Exception {
+        Expression expression = expressionParser.parse("(1/2 + 1/2) * -price_1 + 3 * 2");
+
+        assertThat(expression.isConstant()).isFalse();
+        assertThat(expression.getVariables()).containsExactly("price_1");
+        assertThat(expression.evaluate(Fraction.with(1, 3))).isEqualTo(Fraction.with(17, 3));
+    }
+
+    @Test
+    public void parse_shouldThrowExceptionOnUnexpectedCharacter() {
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+            expressionParser.parse("1/2 + #");
+        }).withMessage("Unexpected character at position 7 of expression 1/2 + #");
+
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+            expressionParser.parse("2x + 1");
+        }).withMessageContaining("position 2");
+
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+            expressionParser.parse("(1 + 2))");
+        }).withMessageContaining("position 8");
+    }
+
+    @Test
+    public void parse_shouldThrowExceptionOnIncompleteExpression() {
+        String[] incompleteExpressions = { "1 +", "(1 + 2", "2 * (" };
+
+        for (String expression : incompleteExpressions) {
+            assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+                expressionParser.parse(expression);
+            }).withMessageContaining("Unexpected end");
+        }
+    }
+
+    @Test
+    public void parse_shouldThrowExceptionOnEmptyExpression() {
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+            expressionParser.parse("   ");
+        }).withMessage("There is nothing to calculate");
+    }
+
+    @Test
+    public void parse_shouldThrowExceptionOnMalformedOperand() {
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+            expressionParser.parse("1_2 + 1");
+        }).withMessageContaining("Error while parsing operand 1_2");
+    }
+
+    @Test
+    public void parse_shouldReportInvalidOperandsWithoutStackTrace() {
+        String[] invalidOperands = { "1/2 + 1/0", "1/2 + 3_4" };
+
+        for (String expression : invalidOperands) {
+            assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+                expressionParser.parse(expression);
+            }).satisfies(error -> assertThat(error.getStackTrace()).isEmpty());
+        }
+    }
+
+    @Test
+    public void parse_shouldThrowExceptionOnDivisionByZero() {
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> {
+            expressionParser.parse("1 / (1/2 - 2/4)");
+        }).withMessage("Division by zero");
+    }
+
+    private Fraction evaluate(String expression) throws CalculatorException {
+        return expressionParser.parse(expression).evaluate();
+    }
+}
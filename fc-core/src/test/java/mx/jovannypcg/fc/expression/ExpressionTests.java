@@ -0,0 +1,106 @@
+package mx.jovannypcg.fc.expression;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ExpressionTests {
+    private FractionCalculator fractionCalculator;
+
+    @Before
+    public void init() {
+        fractionCalculator = new FractionCalculator(new ArgumentValidator());
+    }
+
+    @Test
+    public void getVariables_shouldListNamesInOrderOfFirstAppearance() throws Exception {
+        Expression expression = fractionCalculator.compile("price * 3_1/4 - discount + price_2 / price");
+
+        assertThat(expression.getVariables()).containsExactly("price", "discount", "price_2");
+        assertThat(expression.isConstant()).isFalse();
+    }
+
+    @Test
+    public void evaluate_shouldBindValuesByPosition() throws Exception {
+        Expression expression = fractionCalculator.compile("price * 3_1/4 - discount");
+
+        assertThat(expression.evaluate(Fraction.with(2, 1), Fraction.with(1, 2))).isEqualTo(Fraction.with(6, 1));
+        assertThat(expression.evaluate(Fraction.with(4, 1), Fraction.with(0, 1))).isEqualTo(Fraction.with(13, 1));
+    }
+
+    @Test
+    public void evaluate_shouldBindValuesByName() throws Exception {
+        Expression expression = fractionCalculator.compile("-x / (y - 1/2)");
+        Map<String, Fraction> values = new HashMap<>();
+        values.put("y", Fraction.with(3, 4));
+        values.put("x", MixedFraction.with(1, 1, 2));
+
+        assertThat(expression.evaluate(values)).isEqualTo(Fraction.with(-6, 1));
+    }
+
+    @Test
+    public void evaluate_shouldFailWhenNumberOfValuesDoesNotMatch() throws Exception {
+        Expression expression = fractionCalculator.compile("a + b");
+
+        assertThatExceptionOfType(CalculatorException.class)
+                .isThrownBy(() -> expression.evaluate(Fraction.with(1, 1)))
+                .withMessage("Expected 2 values but got 1");
+        assertThatExceptionOfType(CalculatorException.class)
+                .isThrownBy(expression::evaluate)
+                .withMessage("No value bound to variable a");
+    }
+
+    @Test
+    public void evaluate_shouldConvertMixedFractionValuesByPosition() throws Exception {
+        Expression expression = fractionCalculator.compile("price * 2 - discount");
+        Fraction[] values = { MixedFraction.with(1, 1, 2), Fraction.with(1, 4) };
+
+        assertThat(expression.evaluate(values)).isEqualTo(Fraction.with(11, 4));
+        assertThat(expression.evaluate(Fraction.with(1, 1), MixedFraction.with(-1, 1, 2)))
+                .isEqualTo(Fraction.with(7, 2));
+        assertThat(values[0]).isEqualTo(MixedFraction.with(1, 1, 2));
+    }
+
+    @Test
+    public void evaluate_shouldFailOnDivisionByZeroOfBoundValue() throws Exception {
+        Expression expression = fractionCalculator.compile("1 / x");
+
+        assertThatExceptionOfType(CalculatorException.class)
+                .isThrownBy(() -> expression.evaluate(Fraction.with(0, 1)))
+                .withMessage("Division by zero");
+    }
+
+    @Test
+    public void bind_shouldReuseBindingsAcrossEvaluations() throws Exception {
+        Bindings bindings = fractionCalculator.compile("price * 3_1/4 - discount").bind();
+        bindings.set("discount", Fraction.with(1, 4));
+
+        assertThat(bindings.set("price", Fraction.with(1, 1)).evaluate()).isEqualTo(Fraction.with(3, 1));
+        assertThat(bindings.set("price", Fraction.with(2, 13)).evaluate()).isEqualTo(Fraction.with(1, 4));
+    }
+
+    @Test
+    public void bind_shouldFailOnUnboundOrUnknownVariable() throws Exception {
+        Bindings bindings = fractionCalculator.compile("a + b").bind().set("a", Fraction.with(1, 1));
+
+        assertThatExceptionOfType(CalculatorException.class)
+                .isThrownBy(bindings::evaluate)
+                .withMessage("No value bound to variable b");
+        assertThatExceptionOfType(CalculatorException.class)
+                .isThrownBy(bindings::evaluate)
+                .satisfies(unbound -> assertThat(unbound.getStackTrace()).isEmpty());
+        assertThatExceptionOfType(CalculatorException.class)
+                .isThrownBy(() -> bindings.set("c", Fraction.with(1, 1)))
+                .withMessage("Unknown variable c for expression a + b");
+    }
+}
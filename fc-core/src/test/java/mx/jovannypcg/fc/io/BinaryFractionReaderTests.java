@@ -0,0 +1,167 @@
+package mx.jovannypcg.fc.io;
+
+import mx.jovannypcg.fc.domain.BigFraction;
+import mx.jovannypcg.fc.domain.BigMixedFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class BinaryFractionReaderTests {
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    private final BinaryFractionWriter writer = new BinaryFractionWriter(Channels.newChannel(sink), 32);
+
+    @Test
+    public void readFraction_shouldReadBackWhatWasWritten() throws IOException {
+        List<Fraction> fractions = new ArrayList<>();
+        fractions.add(Fraction.with(0, 1));
+        fractions.add(Fraction.with(1, 0));
+        fractions.add(Fraction.with(-1, 0));
+        fractions.add(Fraction.with(Integer.MIN_VALUE, 1));
+        fractions.add(Fraction.with(Integer.MAX_VALUE, Integer.MAX_VALUE - 1));
+        fractions.add(MixedFraction.with(0, -3, 4));
+        fractions.add(MixedFraction.with(-2, 1, 3));
+        fractions.add(BigFraction.with(BigInteger.TEN.pow(40), BigInteger.valueOf(3)));
+        fractions.add(BigMixedFraction.parse(
+                BigFraction.with(BigInteger.TEN.pow(20).negate(), BigInteger.valueOf(7))));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            Fraction fraction = Fraction.with(random.nextInt(), random.nextInt(1_000_000) + 1);
+            fractions.add(fraction);
+            fractions.add(MixedFraction.parse(fraction));
+            fractions.add(Fraction.with(random.nextInt(17) - 8, random.nextInt(8) + 1));
+        }
+
+        for (Fraction fraction : fractions) {
+            writer.writeFraction(fraction);
+        }
+        BinaryFractionReader reader = reader();
+
+        for (Fraction fraction : fractions) {
+            Fraction read = reader.readFraction();
+
+            assertThat(read).isEqualTo(fraction);
+            assertThat(read.getClass()).isEqualTo(fraction.getClass());
+            assertThat(read.toString()).isEqualTo(fraction.toString());
+        }
+        assertThat(reader.readResult()).isNull();
+    }
+
+    @Test
+    public void readOperator_shouldReadOperationsUntilEndOfStream() throws IOException {
+        writer.writeOperation('+', Fraction.with(1, 2), MixedFraction.with(3, 3, 4))
+                .writeOperation('*', Fraction.with(-7, 3), Fraction.with(99_999, 2));
+        BinaryFractionReader reader = reader();
+
+        assertThat(reader.readOperator()).isEqualTo('+');
+        assertThat(reader.readFraction().toString()).isEqualTo("1/2");
+        assertThat(reader.readFraction().toString()).isEqualTo("3_3/4");
+        assertThat(reader.readOperator()).isEqualTo('*');
+        assertThat(reader.readFraction().toString()).isEqualTo("-7/3");
+        assertThat(reader.readFraction().toString()).isEqualTo("99999/2");
+        assertThat(reader.readOperator()).isEqualTo(BinaryFractionReader.END_OF_STREAM);
+    }
+
+    @Test
+    public void readResult_shouldReadFailures() throws IOException {
+        writer.writeResult(FractionResult.success(Fraction.with(5, 4)))
+                .writeResult(FractionResult.failure(ErrorCode.ZERO_AS_DENOMINATOR, "1/0", "Zero in 1/0 ñ"));
+        BinaryFractionReader reader = reader();
+
+        assertThat(reader.readResult().getValue()).isEqualTo(Fraction.with(5, 4));
+
+        FractionResult failure = reader.readResult();
+        assertThat(failure.getErrorCode()).isEqualTo(ErrorCode.ZERO_AS_DENOMINATOR);
+        assertThat(failure.getError().getMessage()).isEqualTo("Zero in 1/0 ñ");
+    }
+
+    @Test
+    public void readFraction_shouldReduceNonCanonicalInput() throws IOException {
+        BinaryFractionReader reader = reader(0x80, 0x0C, 0x08);
+
+        assertThat(reader.readFraction().toString()).isEqualTo("3/4");
+    }
+
+    @Test
+    public void readOperator_shouldRejectStreamWithoutHeader() {
+        BinaryFractionReader reader = new BinaryFractionReader(
+                Channels.newChannel(new ByteArrayInputStream(new byte[] { 'x', 'y', 'z', 1 })));
+
+        assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(reader::readOperator);
+    }
+
+    @Test
+    public void readOperator_shouldRejectFractionInPlaceOfOperation() {
+        assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(reader(0x11)::readOperator);
+    }
+
+    @Test
+    public void readFraction_shouldRejectMalformedRecords() {
+        assertThatExceptionOfType(StreamCorruptedException.class)
+                .isThrownBy(reader(0x80, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01)::readFraction);
+        assertThatExceptionOfType(StreamCorruptedException.class)
+                .isThrownBy(reader(0x80, 0x02, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F)::readFraction);
+        assertThatExceptionOfType(EOFException.class).isThrownBy(reader(0x81, 0x02)::readFraction);
+        assertThatExceptionOfType(EOFException.class).isThrownBy(reader(0x82, 0x08, 0x01)::readFraction);
+    }
+
+    @Test
+    public void readFraction_shouldRejectMixedFractionsWhichAreNotCanonical() throws IOException {
+        assertThat(reader(0x81, 0x04, 0x02, 0x03).readFraction().toString()).isEqualTo("2_1/3");
+        assertThatExceptionOfType(StreamCorruptedException.class)
+                .isThrownBy(reader(0x81, 0x04, 0x0A, 0x03)::readFraction);
+        assertThatExceptionOfType(StreamCorruptedException.class)
+                .isThrownBy(reader(0x81, 0x04, 0x03, 0x04)::readFraction);
+        assertThatExceptionOfType(StreamCorruptedException.class)
+                .isThrownBy(reader(0x81, 0x04, 0x02, 0x00)::readFraction);
+        assertThatExceptionOfType(StreamCorruptedException.class)
+                .isThrownBy(reader(0x83, 0x01, 0x02, 0x01, 0x05, 0x01, 0x03)::readFraction);
+    }
+
+    @Test
+    public void readFraction_shouldDemoteBigFractionsWhichFitIntoAnInt() throws IOException {
+        Fraction fraction = reader(0x82, 0x01, 0x06, 0x01, 0x04).readFraction();
+
+        assertThat(fraction).isNotInstanceOf(BigFraction.class).isEqualTo(Fraction.with(3, 2));
+    }
+
+    @Test
+    public void readFraction_shouldRejectVarintsWiderThan32Bits() throws IOException {
+        assertThat(reader(0x80, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F, 0x01).readFraction())
+                .isEqualTo(Fraction.with(Integer.MIN_VALUE, 1));
+        assertThatExceptionOfType(StreamCorruptedException.class)
+                .isThrownBy(reader(0x80, 0x80, 0x80, 0x80, 0x80, 0x10, 0x01)::readFraction);
+    }
+
+    private BinaryFractionReader reader() throws IOException {
+        writer.flush();
+        return new BinaryFractionReader(Channels.newChannel(new ByteArrayInputStream(sink.toByteArray())), 32);
+    }
+
+    private BinaryFractionReader reader(int... records) {
+        byte[] bytes = new byte[BinaryFormat.MAGIC.length + records.length];
+        System.arraycopy(BinaryFormat.MAGIC, 0, bytes, 0, BinaryFormat.MAGIC.length);
+
+        for (int i = 0; i < records.length; i++) {
+            bytes[BinaryFormat.MAGIC.length + i] = (byte) records[i];
+        }
+
+        return new BinaryFractionReader(Channels.newChannel(new ByteArrayInputStream(bytes)), 32);
+    }
+}
@@ -0,0 +1,104 @@
+package mx.jovannypcg.fc.io;
+
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.FractionResult;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class BinaryFractionWriterTests {
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    private final BinaryFractionWriter writer = new BinaryFractionWriter(Channels.newChannel(sink), 32);
+
+    @Test
+    public void writeFraction_shouldUseSingleByteForSmallFractions() throws IOException {
+        writer.writeFraction(Fraction.with(0, 1))
+                .writeFraction(Fraction.with(-1, 2))
+                .writeFraction(Fraction.with(7, 8))
+                .writeFraction(Fraction.with(-8, 1));
+        writer.flush();
+
+        assertThat(records()).containsExactly(0x00, 0x09, 0x77, 0x78);
+    }
+
+    @Test
+    public void writeFraction_shouldWriteZigzagVarints() throws IOException {
+        writer.writeFraction(Fraction.with(-65, 9))
+                .writeFraction(Fraction.with(1, 0))
+                .writeFraction(MixedFraction.with(-2, 1, 3))
+                .writeFraction(Fraction.with(Integer.MIN_VALUE, 1));
+        writer.flush();
+
+        assertThat(records()).containsExactly(
+                0x80, 0x81, 0x01, 0x09,
+                0x80, 0x02, 0x00,
+                0x81, 0x03, 0x02, 0x03,
+                0x80, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F, 0x01);
+    }
+
+    @Test
+    public void writeOperation_shouldWriteOpcodeBeforeOperands() throws IOException {
+        writer.writeOperation('/', Fraction.with(1, 2), Fraction.with(3, 1));
+        writer.flush();
+
+        assertThat(records()).containsExactly(0x93, 0x11, 0x30);
+    }
+
+    @Test
+    public void writeOperation_shouldRejectUnknownOperator() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> writer.writeOperation('%', Fraction.with(1, 2), Fraction.with(1, 2)));
+    }
+
+    @Test
+    public void writeResult_shouldWriteFailureWithMessage() throws IOException {
+        writer.writeResult(FractionResult.failure(ErrorCode.MALFORMED_OPERAND, "x", "bad"));
+        writer.flush();
+
+        assertThat(records()).containsExactly(0x84, ErrorCode.MALFORMED_OPERAND.ordinal(), 3, 'b', 'a', 'd');
+    }
+
+    @Test
+    public void writeOperation_shouldBeSmallerThanText() throws IOException {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 10_000; i++) {
+            Fraction x = Fraction.with(random.nextInt(199) - 99, random.nextInt(99) + 1);
+            Fraction y = MixedFraction.with(random.nextInt(19) - 9, random.nextInt(99) + 1, random.nextInt(99) + 101);
+
+            writer.writeOperation('+', x, y);
+            text.append(x).append(" + ").append(y).append('\n');
+        }
+        writer.flush();
+
+        assertThat(sink.size()).isLessThan(text.toString().getBytes(StandardCharsets.US_ASCII).length * 6 / 10);
+    }
+
+    private int[] records() {
+        byte[] bytes = sink.toByteArray();
+
+        assertThat(Arrays.copyOf(bytes, BinaryFormat.MAGIC.length)).isEqualTo(BinaryFormat.MAGIC);
+        return Arrays.copyOfRange(toInts(bytes), BinaryFormat.MAGIC.length, bytes.length);
+    }
+
+    private static int[] toInts(byte[] bytes) {
+        int[] ints = new int[bytes.length];
+
+        for (int i = 0; i < bytes.length; i++) {
+            ints[i] = bytes[i] & 0xFF;
+        }
+
+        return ints;
+    }
+}
@@ -0,0 +1,144 @@
+package mx.jovannypcg.fc.io;
+
+import mx.jovannypcg.fc.commons.Message;
+import mx.jovannypcg.fc.domain.BigFraction;
+import mx.jovannypcg.fc.domain.BigMixedFraction;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.domain.MixedFraction;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class FractionWriterTests {
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    private final FractionWriter writer = new FractionWriter(Channels.newChannel(sink), 32);
+
+    @Test
+    public void writeFraction_shouldMatchToString() throws IOException {
+        List<Fraction> fractions = new ArrayList<>();
+        fractions.add(Fraction.with(0, 1));
+        fractions.add(Fraction.with(1, 0));
+        fractions.add(Fraction.with(-1, 0));
+        fractions.add(Fraction.with(Integer.MIN_VALUE, 1));
+        fractions.add(Fraction.with(Integer.MAX_VALUE, Integer.MAX_VALUE - 1));
+        fractions.add(MixedFraction.with(0, 3, 4));
+        fractions.add(MixedFraction.with(-2, 1, 3));
+        fractions.add(MixedFraction.with(5, 0, 1));
+        fractions.add(BigFraction.with(BigInteger.TEN.pow(20), BigInteger.valueOf(3)));
+        fractions.add(BigMixedFraction.parse(
+                BigFraction.with(BigInteger.TEN.pow(20).negate(), BigInteger.valueOf(7))));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            Fraction fraction = Fraction.with(random.nextInt(), random.nextInt(1_000_000) + 1);
+            fractions.add(fraction);
+            fractions.add(MixedFraction.parse(fraction));
+        }
+
+        StringBuilder expected = new StringBuilder();
+        for (Fraction fraction : fractions) {
+            writer.writeFraction(fraction).write('\n');
+            expected.append(fraction).append('\n');
+        }
+        writer.flush();
+
+        assertThat(written()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void writeNumber_shouldWriteEveryDigit() throws IOException {
+        long[] numbers = { 0, 7, -7, 10, -10, 1_000_000, Long.MAX_VALUE, Long.MIN_VALUE };
+        StringBuilder expected = new StringBuilder();
+
+        for (long number : numbers) {
+            writer.writeNumber(number).write(' ');
+            expected.append(number).append(' ');
+        }
+        writer.flush();
+
+        assertThat(written()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void writeResult_shouldMatchResultOutput() throws IOException {
+        String[] args = { "1/2", "+", "3_3/4" };
+        Fraction result = MixedFraction.with(4, 1, 4);
+
+        writer.writeResult(args, result);
+        writer.flush();
+
+        assertThat(written()).isEqualTo(Message.resultOutput(args, result.toString()));
+    }
+
+    @Test
+    public void write_shouldEncodeUtf8() throws IOException {
+        String text = "ñ ∞ 😀 \uD83D x \uDE00";
+
+        writer.write(text);
+        writer.flush();
+
+        assertThat(sink.toByteArray()).isEqualTo(
+                "ñ ∞ 😀 ? x ?".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_shouldEncodeTextLongerThanBuffer() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            text.append(i % 255 == 0 ? "😀" : "a/b ");
+        }
+
+        writer.append(text);
+        writer.flush();
+
+        assertThat(written()).isEqualTo(text.toString());
+    }
+
+    @Test
+    public void writeUtf8_shouldKeepTheOrderOfTheText() throws IOException {
+        String large = "1/2 + 1/3 = 5/6 ñ\n1/2 * 1/2 = 1/4 ñ\n";
+
+        writer.write("a");
+        writer.writeUtf8(ByteBuffer.wrap("ñ/".getBytes(StandardCharsets.UTF_8)));
+        writer.writeNumber(7);
+        writer.writeUtf8(ByteBuffer.wrap(large.getBytes(StandardCharsets.UTF_8)));
+        writer.write('b');
+        writer.flush();
+
+        assertThat(written()).isEqualTo("añ/7" + large + "b");
+    }
+
+    @Test
+    public void flush_shouldOnlyWriteWhenBufferIsFull() throws IOException {
+        writer.write("1234567890123456789012345678");
+        assertThat(sink.size()).isZero();
+
+        writer.writeNumber(Long.MIN_VALUE);
+        assertThat(sink.size()).isEqualTo(28);
+        assertThat(writer.buffered()).isEqualTo(20);
+
+        writer.close();
+        assertThat(sink.size()).isEqualTo(48);
+    }
+
+    @Test
+    public void constructor_shouldRejectSmallBuffer() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new FractionWriter(Channels.newChannel(sink), 16));
+    }
+
+    private String written() {
+        return new String(sink.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package mx.jovannypcg.fc.metrics;
+
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class CalculatorMetricsTests {
+    private final CalculatorMetrics metrics = new CalculatorMetrics(1);
+    private final FractionCalculator fractionCalculator = new FractionCalculator(new ArgumentValidator(), metrics);
+
+    @Test
+    public void perform_shouldCountAndTimeEveryStage() throws CalculatorException {
+        fractionCalculator.perform("1/2", "+", "3_3/4");
+        fractionCalculator.perform("1/2", "*", "0");
+        fractionCalculator.perform("1/2 + 3_3/4 * (2 - 1/3)");
+
+        assertThat(metrics.getCount(Stage.VALIDATE)).isEqualTo(2);
+        assertThat(metrics.getCount(Stage.PARSE)).isEqualTo(2);
+        assertThat(metrics.getCount(Stage.COMPUTE)).isEqualTo(2);
+        assertThat(metrics.getCount(Stage.SIMPLIFY)).isGreaterThanOrEqualTo(2);
+        assertThat(metrics.getCount(Stage.EVALUATE)).isEqualTo(1);
+        assertThat(metrics.getLatency(Stage.PARSE).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void recordFailure_shouldCountFailuresByReason() {
+        assertThatExceptionOfType(CalculatorException.class)
+                .isThrownBy(() -> fractionCalculator.perform("1/2", "+", "1/0"));
+        fractionCalculator.tryPerform("1/2", "+", "1/0");
+        fractionCalculator.tryPerform("1/2", "+", "a");
+        fractionCalculator.tryPerform("1", "+", "(", "2");
+
+        assertThat(metrics.getFailures(ErrorCode.ZERO_AS_DENOMINATOR)).isEqualTo(2);
+        assertThat(metrics.getFailures(ErrorCode.BAD_ORDER_OR_FORMAT)).isEqualTo(1);
+        assertThat(metrics.getFailures(ErrorCode.UNEXPECTED_END)).isEqualTo(1);
+        assertThat(metrics.getCount(Stage.COMPUTE)).isZero();
+    }
+
+    @Test
+    public void start_shouldTimeOneOutOfSamplingInterval() {
+        CalculatorMetrics sampled = new CalculatorMetrics(16);
+
+        for (int i = 0; i < 16_000; i++) {
+            sampled.lap(Stage.COMPUTE, sampled.start());
+        }
+
+        assertThat(sampled.getCount(Stage.COMPUTE)).isEqualTo(16_000);
+        assertThat(sampled.getLatency(Stage.COMPUTE).getCount()).isBetween(800L, 1_200L);
+    }
+
+    @Test
+    public void toJson_shouldListEveryStageAndFailure() throws CalculatorException {
+        fractionCalculator.perform("1/2", "+", "1/2");
+        fractionCalculator.tryPerform("1/2", "+", "a");
+
+        String json = metrics.toJson();
+
+        assertThat(json).startsWith("{\"samplingInterval\":1,\"stages\":{\"VALIDATE\":{\"count\":1,\"timed\":1,");
+        assertThat(json).contains("\"FORMAT\":{\"count\":0,\"timed\":0,\"mean\":0.0,\"p50\":0");
+        assertThat(json).contains("\"BAD_ORDER_OR_FORMAT\":1,");
+        assertThat(json).endsWith("\"WRONG_NUMBER_OF_VALUES\":0}}");
+    }
+
+    @Test
+    public void toText_shouldListOnlyWhatHappened() throws CalculatorException {
+        fractionCalculator.perform("1/2", "+", "1/2");
+        fractionCalculator.tryPerform("1/2", "+", "a");
+
+        String text = metrics.toText();
+
+        assertThat(text).startsWith("Stages (1 out of 1 timed):\n  VALIDATE  1, count=1 mean=");
+        assertThat(text).doesNotContain("EVALUATE");
+        assertThat(text).endsWith("Failures:\n  BAD_ORDER_OR_FORMAT 1\n");
+    }
+
+    @Test
+    public void reset_shouldSetEverythingBackToZero() throws CalculatorException {
+        fractionCalculator.perform("1/2", "+", "1/2");
+        fractionCalculator.tryPerform("1/2", "+", "a");
+        metrics.reset();
+
+        assertThat(metrics.getCount(Stage.VALIDATE)).isZero();
+        assertThat(metrics.getLatency(Stage.VALIDATE).getCount()).isZero();
+        assertThat(metrics.getFailures(ErrorCode.BAD_ORDER_OR_FORMAT)).isZero();
+    }
+}
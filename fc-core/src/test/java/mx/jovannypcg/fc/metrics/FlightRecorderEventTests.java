@@ -0,0 +1,97 @@
+package mx.jovannypcg.fc.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import mx.jovannypcg.fc.command.FractionCalculator;
+import mx.jovannypcg.fc.domain.Fraction;
+import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.validator.ArgumentValidator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class FlightRecorderEventTests {
+    private final FractionCalculator fractionCalculator = new FractionCalculator(new ArgumentValidator());
+
+    private Recording recording;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("fc", ".jfr");
+        recording = new Recording();
+        recording.enable(CalculationEvent.NAME).withoutThreshold();
+        recording.enable(ParseFailureEvent.NAME);
+        recording.enable(OverflowPromotionEvent.NAME);
+        recording.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        recording.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void perform_shouldEmitCalculationEvents() throws Exception {
+        fractionCalculator.perform("1/2", "+", "3_3/4");
+        fractionCalculator.perform("1/2 + 3_3/4 * (2 - 1/3)");
+        fractionCalculator.tryPerform("1/2", "*", "1/0");
+
+        List<RecordedEvent> events = stop(CalculationEvent.NAME);
+
+        assertThat(events).hasSize(3);
+        assertThat(events.get(0).getString("operator")).isEqualTo("+");
+        assertThat(events.get(0).getInt("firstOperandLength")).isEqualTo(3);
+        assertThat(events.get(0).getInt("secondOperandLength")).isEqualTo(5);
+        assertThat(events.get(0).getString("outcome")).isEqualTo("SUCCESS");
+        assertThat(events.get(1).getString("operator")).isNull();
+        assertThat(events.get(1).getInt("expressionLength")).isEqualTo(23);
+        assertThat(events.get(2).getString("outcome")).isEqualTo("ZERO_AS_DENOMINATOR");
+    }
+
+    @Test
+    public void parse_shouldEmitParseFailureEvents() throws Exception {
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> Fraction.parse("1/a"));
+        assertThatExceptionOfType(CalculatorException.class).isThrownBy(() -> Fraction.parse("1/0"));
+        Fraction.tryParse("x");
+
+        List<RecordedEvent> events = stop(ParseFailureEvent.NAME);
+
+        assertThat(events).extracting(event -> event.getString("operand")).containsExactly("1/a", "1/0", "x");
+        assertThat(events).extracting(event -> event.getString("reason"))
+                .containsExactly("MALFORMED_OPERAND", "ZERO_AS_DENOMINATOR", "MALFORMED_OPERAND");
+    }
+
+    @Test
+    public void multiply_shouldEmitOverflowPromotionEvents() throws Exception {
+        fractionCalculator.perform("65536", "*", "65536");
+        fractionCalculator.perform("2", "*", "3");
+
+        List<RecordedEvent> events = stop(OverflowPromotionEvent.NAME);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("operator")).isEqualTo("*");
+        assertThat(events.get(0).getInt("firstOperandBits")).isEqualTo(17);
+        assertThat(events.get(0).getInt("resultBits")).isEqualTo(33);
+    }
+
+    private List<RecordedEvent> stop(String name) throws IOException {
+        recording.stop();
+        recording.dump(file);
+
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
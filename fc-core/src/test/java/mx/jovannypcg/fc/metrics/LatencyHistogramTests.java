@@ -0,0 +1,78 @@
+package mx.jovannypcg.fc.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTests {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void indexOf_shouldKeepValuesWithinTheirBucket() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(63));
+            int index = LatencyHistogram.indexOf(value);
+
+            assertThat(index).isBetween(0, LatencyHistogram.BUCKETS - 1);
+            assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+            assertThat(index == 0 || LatencyHistogram.highestValueOf(index - 1) < value).isTrue();
+            assertThat((double) LatencyHistogram.highestValueOf(index) - value).isLessThanOrEqualTo(value / 32.0);
+        }
+
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+        assertThat(LatencyHistogram.highestValueOf(LatencyHistogram.BUCKETS - 1)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void getValueAtPercentile_shouldBeWithinPrecision() {
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(10_000);
+        assertThat(histogram.getMean()).isCloseTo(5_000_500, within(1.0));
+        assertThat(histogram.getMax()).isEqualTo(10_000_000);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(5_000_000L, 5_000_000L * 33 / 32);
+        assertThat(histogram.getValueAtPercentile(99)).isBetween(9_900_000L, 9_900_000L * 33 / 32);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000_000);
+    }
+
+    @Test
+    public void record_shouldBeSafeAcrossThreads() throws Exception {
+        List<CompletableFuture<Void>> threads = new ArrayList<>();
+
+        for (int thread = 0; thread < 8; thread++) {
+            threads.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            }));
+        }
+
+        for (CompletableFuture<Void> thread : threads) {
+            thread.get();
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(80_000);
+        assertThat(histogram.getMax()).isEqualTo(9_999);
+    }
+
+    @Test
+    public void reset_shouldForgetEverything() {
+        histogram.record(-5);
+        histogram.record(42);
+        histogram.reset();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getMax()).isZero();
+        assertThat(histogram.getValueAtPercentile(50)).isZero();
+    }
+}
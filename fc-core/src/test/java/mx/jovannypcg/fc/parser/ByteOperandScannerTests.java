@@ -0,0 +1,82 @@
+package mx.jovannypcg.fc.parser;
+
+import mx.jovannypcg.fc.domain.PackedFraction;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteOperandScannerTests {
+    private final ByteOperandScanner scanner = new ByteOperandScanner();
+
+    @Test
+    public void scan_shouldMatchOperandScanner() {
+        String[] operands = { "23", "-7", "8/9", "-3/4", "3_2/5", "-7_5/8", "1/0", "2147483647", "-2147483648",
+                "2147483648", "1/2147483648", "2147483647_1/2", "", "-", "1_/8", "2/", "_45_3/2", "1-2/7",
+                "/23_2", "1_2/3/4", "1_2", "--1", "1/2/3" };
+
+        for (String operand : operands) {
+            byte[] bytes = operand.getBytes(StandardCharsets.US_ASCII);
+
+            assertThat(scanner.scan(bytes, 0, bytes.length)).as(operand).isEqualTo(OperandScanner.scan(operand));
+            assertThat(scanner.position()).as(operand).isEqualTo(bytes.length);
+        }
+    }
+
+    @Test
+    public void scan_shouldRejectBytesWhichAreNotAscii() {
+        byte[] operand = { '1', '/', (byte) ('2' | 0x80) };
+
+        assertThat(scanner.scan(operand, 0, operand.length)).isEqualTo(OperandScanner.NOT_A_FRACTION);
+    }
+
+    @Test
+    public void scan_shouldStopAtEndOfOperand() {
+        byte[] line = "  1/2 + 3_3/4\n".getBytes(StandardCharsets.US_ASCII);
+
+        long x = scanner.scan(line, 0, line.length);
+        assertFraction(x, 1, 2);
+        assertThat(scanner.start()).isEqualTo(2);
+        assertThat(scanner.position()).isEqualTo(5);
+
+        long y = scanner.scan(line, 7, line.length - 7);
+        assertFraction(y, 15, 4);
+        assertThat(scanner.position()).isEqualTo(13);
+    }
+
+    @Test
+    public void scan_shouldNotGoPastLength() {
+        byte[] bytes = "12345".getBytes(StandardCharsets.US_ASCII);
+
+        assertFraction(scanner.scan(bytes, 1, 2), 23, 1);
+        assertThat(scanner.position()).isEqualTo(3);
+    }
+
+    @Test
+    public void scan_shouldSkipInvalidOperand() {
+        byte[] bytes = "1/2/3 4".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(scanner.scan(bytes, 0, bytes.length)).isEqualTo(OperandScanner.NOT_A_FRACTION);
+        assertThat(scanner.position()).isEqualTo(5);
+        assertFraction(scanner.scan(bytes, scanner.position(), bytes.length - scanner.position()), 4, 1);
+    }
+
+    @Test
+    public void scan_shouldAdvanceBufferPosition() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        buffer.put("-1_1/2\t7/8".getBytes(StandardCharsets.US_ASCII)).flip();
+
+        assertFraction(scanner.scan(buffer), -1, 2);
+        assertThat(buffer.position()).isEqualTo(6);
+
+        assertFraction(scanner.scan(buffer), 7, 8);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    private void assertFraction(long packed, int numerator, int denominator) {
+        assertThat(PackedFraction.numerator(packed)).isEqualTo(numerator);
+        assertThat(PackedFraction.denominator(packed)).isEqualTo(denominator);
+    }
+}
@@ -0,0 +1,70 @@
+package mx.jovannypcg.fc.parser;
+
+import mx.jovannypcg.fc.domain.PackedFraction;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperandScannerTests {
+    @Test
+    public void shapeOf_shouldIdentifyValidOperands() {
+        assertThat(OperandScanner.shapeOf("3")).isEqualTo(OperandScanner.INTEGER);
+        assertThat(OperandScanner.shapeOf("-242")).isEqualTo(OperandScanner.INTEGER);
+        assertThat(OperandScanner.shapeOf("7/8")).isEqualTo(OperandScanner.SIMPLE_FRACTION);
+        assertThat(OperandScanner.shapeOf("-4/3")).isEqualTo(OperandScanner.SIMPLE_FRACTION);
+        assertThat(OperandScanner.shapeOf("45_3/2")).isEqualTo(OperandScanner.MIXED_FRACTION);
+        assertThat(OperandScanner.shapeOf("-7_5/8")).isEqualTo(OperandScanner.MIXED_FRACTION);
+    }
+
+    @Test
+    public void shapeOf_shouldReturnInvalidForMalformedOperands() {
+        String[] invalidOperands = { "", "-", "1_/8", "2/", "_45_3/2", "abc", "1-2/7", "/23_2", "-1_/7",
+                "1_2/3/4", "1/2_3", "1_2", "--1", "1/2/3", " 1" };
+
+        for (String operand : invalidOperands) {
+            assertThat(OperandScanner.shapeOf(operand)).as(operand).isEqualTo(OperandScanner.INVALID);
+        }
+    }
+
+    @Test
+    public void scan_shouldConvertIntoSimpleFraction() {
+        assertFraction(OperandScanner.scan("23"), 23, 1);
+        assertFraction(OperandScanner.scan("-7"), -7, 1);
+        assertFraction(OperandScanner.scan("8/9"), 8, 9);
+        assertFraction(OperandScanner.scan("-3/4"), -3, 4);
+        assertFraction(OperandScanner.scan("3_2/5"), 17, 5);
+        assertFraction(OperandScanner.scan("-7_5/8"), -7 * 8 + 5, 8);
+        assertFraction(OperandScanner.scan("1/0"), 1, 0);
+    }
+
+    @Test
+    public void scan_shouldAcceptIntegerLimits() {
+        assertFraction(OperandScanner.scan("2147483647"), Integer.MAX_VALUE, 1);
+        assertFraction(OperandScanner.scan("-2147483648"), Integer.MIN_VALUE, 1);
+        assertFraction(OperandScanner.scan("1/2147483647"), 1, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void scan_shouldReturnNotAFractionForMalformedOperands() {
+        String[] invalidOperands = { "", "-", "1_/8", "2/", "_45_3/2", "abc", "1-2/7", "/23_2", "1_2/3/4", "1_2" };
+
+        for (String operand : invalidOperands) {
+            assertThat(OperandScanner.scan(operand)).as(operand).isEqualTo(OperandScanner.NOT_A_FRACTION);
+        }
+    }
+
+    @Test
+    public void scan_shouldReturnNotAFractionWhenNumbersDoNotFitIntoInt() {
+        String[] outOfRangeOperands = { "2147483648", "-2147483649", "1/2147483648", "99999999999999999999",
+                "2147483647_1/2" };
+
+        for (String operand : outOfRangeOperands) {
+            assertThat(OperandScanner.scan(operand)).as(operand).isEqualTo(OperandScanner.NOT_A_FRACTION);
+        }
+    }
+
+    private void assertFraction(long packed, int numerator, int denominator) {
+        assertThat(PackedFraction.numerator(packed)).isEqualTo(numerator);
+        assertThat(PackedFraction.denominator(packed)).isEqualTo(denominator);
+    }
+}
@@ -1,17 +1,13 @@
 package mx.jovannypcg.fc.validator;
 
 import mx.jovannypcg.fc.exception.CalculatorException;
+import mx.jovannypcg.fc.exception.ErrorCode;
 import org.junit.Before;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.junit4.SpringRunner;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
-@SpringBootTest
-@RunWith(SpringRunner.class)
 public class ArgumentValidatorTests {
     private ArgumentValidator argumentValidator;
 
@@ -97,4 +93,23 @@ public class ArgumentValidatorTests {
             assertThat(argumentValidator.isValidOperator(operator)).isFalse();
         }
     }
+
+    @Test
+    public void check_shouldReturnNullForValidArguments() {
+        assertThat(argumentValidator.check("2/3", "*", "-2_7/3")).isNull();
+    }
+
+    @Test
+    public void check_shouldReturnFailureWithOffendingArgument() {
+        CalculatorException badOperand = argumentValidator.check("2/3", "*", "2_7/");
+        CalculatorException badOperator = argumentValidator.check("2/3", "x", "1");
+        CalculatorException badSize = argumentValidator.check("2/3", "*");
+
+        assertThat(badOperand.getErrorCode()).isEqualTo(ErrorCode.BAD_ORDER_OR_FORMAT);
+        assertThat(badOperand.getOperand()).isEqualTo("2_7/");
+        assertThat(badOperand.getStackTrace()).isEmpty();
+        assertThat(badOperator.getOperand()).isEqualTo("x");
+        assertThat(badSize.getErrorCode()).isEqualTo(ErrorCode.BAD_ARGUMENT_SIZE);
+        assertThat(badSize).hasMessage("There must be exactly 3 arguments");
+    }
 }
@@ -1,7 +0,0 @@
-package mx.jovannypcg.fc.exception;
-
-public class CalculatorException extends Exception {
-    public CalculatorException(String message) {
-        super(message);
-    }
-}